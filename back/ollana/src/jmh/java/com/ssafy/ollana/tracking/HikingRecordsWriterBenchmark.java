@@ -0,0 +1,99 @@
+package com.ssafy.ollana.tracking;
+
+import com.ssafy.ollana.OllanaApplication;
+import com.ssafy.ollana.tracking.service.HikingLiveRecordsDTO;
+import com.ssafy.ollana.tracking.service.HikingRecordsWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * hiking_live_records 저장 방식 비교 (JPA batch insert vs COPY)
+ * - 실제 DB에 붙어서 실행하며, 매 호출은 롤백되어 데이터가 남지 않음
+ * - FK로 사용할 id는 시스템 프로퍼티로 지정
+ *   ./gradlew jmh -PjmhIncludes=HikingRecordsWriterBenchmark
+ *       -Dbench.userId=1 -Dbench.mountainId=1 -Dbench.pathId=1 -Dbench.hikingHistoryId=1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HikingRecordsWriterBenchmark {
+
+    @Param({"jpa", "copy"})
+    private String writer;
+
+    @Param({"1000", "10000", "50000"})
+    private int points;
+
+    private ConfigurableApplicationContext context;
+    private HikingRecordsWriter hikingRecordsWriter;
+    private TransactionTemplate transactionTemplate;
+    private List<HikingLiveRecordsDTO> records;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OllanaApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "tracking.records.writer=" + writer,
+                        "spring.jpa.show-sql=false",
+                        "spring.rabbitmq.listener.simple.auto-startup=false"
+                )
+                .run();
+
+        hikingRecordsWriter = context.getBean(HikingRecordsWriter.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        records = createRecords(points);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void write() {
+        transactionTemplate.executeWithoutResult(status -> {
+            hikingRecordsWriter.write(records);
+            status.setRollbackOnly();
+        });
+    }
+
+    private static List<HikingLiveRecordsDTO> createRecords(int size) {
+        Integer userId = Integer.getInteger("bench.userId", 1);
+        Integer mountainId = Integer.getInteger("bench.mountainId", 1);
+        Integer pathId = Integer.getInteger("bench.pathId", 1);
+        Integer hikingHistoryId = Integer.getInteger("bench.hikingHistoryId", 1);
+
+        List<HikingLiveRecordsDTO> list = new ArrayList<>(size);
+        double latitude = 37.5;
+        double longitude = 127.0;
+        for (int i = 0; i < size; i++) {
+            // 1초 간격, 약 1.2m씩 이동
+            latitude += 0.00001;
+            longitude += 0.000005;
+            list.add(HikingLiveRecordsDTO.builder()
+                    .userId(userId)
+                    .mountainId(mountainId)
+                    .pathId(pathId)
+                    .hikingHistoryId(hikingHistoryId)
+                    .totalTime(i)
+                    .totalDistance(i * 0.0012)
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .heartRate(90 + (i % 60))
+                    .build());
+        }
+        return list;
+    }
+}
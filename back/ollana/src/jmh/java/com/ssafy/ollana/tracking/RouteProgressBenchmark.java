@@ -0,0 +1,68 @@
+package com.ssafy.ollana.tracking;
+
+import com.ssafy.ollana.tracking.service.route.RouteGeometry;
+import com.ssafy.ollana.tracking.service.route.RouteProgress;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * GPS 위치 -> 등산로 투영 성능
+ * ./gradlew jmh -PjmhIncludes=RouteProgressBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteProgressBenchmark {
+
+    private static final int FIXES = 1024;
+
+    @Param({"500", "5000", "50000"})
+    private int routePoints;
+
+    private RouteGeometry route;
+    private double[] latitudes;
+    private double[] longitudes;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        GeometryFactory gf = new GeometryFactory(new PrecisionModel(), 4326);
+
+        // 구불구불한 약 5m 간격 등산로
+        Coordinate[] coordinates = new Coordinate[routePoints];
+        double lat = 37.5;
+        double lng = 127.0;
+        double heading = 0;
+        for (int i = 0; i < routePoints; i++) {
+            heading += random.nextGaussian() * 0.3;
+            lat += Math.cos(heading) * 0.000045;
+            lng += Math.sin(heading) * 0.000057;
+            coordinates[i] = new Coordinate(lng, lat);
+        }
+        route = RouteGeometry.of(gf.createLineString(coordinates));
+
+        // 등산로 주변 최대 약 30m 오차의 GPS 위치
+        latitudes = new double[FIXES];
+        longitudes = new double[FIXES];
+        for (int i = 0; i < FIXES; i++) {
+            Coordinate c = coordinates[random.nextInt(routePoints)];
+            latitudes[i] = c.y + random.nextGaussian() * 0.0001;
+            longitudes[i] = c.x + random.nextGaussian() * 0.0001;
+        }
+    }
+
+    @Benchmark
+    public RouteProgress snap() {
+        int i = cursor++ & (FIXES - 1);
+        return route.snap(latitudes[i], longitudes[i]);
+    }
+}
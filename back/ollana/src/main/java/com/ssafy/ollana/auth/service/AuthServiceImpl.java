@@ -11,6 +11,7 @@ import com.ssafy.ollana.auth.dto.response.LoginResponseDto;
 import com.ssafy.ollana.auth.exception.AuthenticationException;
 import com.ssafy.ollana.user.exception.NicknameAlreadyExistsException;
 import com.ssafy.ollana.common.s3.service.S3Service;
+import com.ssafy.ollana.footprint.service.UserHikingSummaryService;
 import com.ssafy.ollana.security.jwt.JwtUtil;
 import com.ssafy.ollana.user.entity.User;
 import com.ssafy.ollana.user.entity.Gender;
@@ -41,6 +42,7 @@ public class AuthServiceImpl implements AuthService {
     private final TokenService tokenService;
     private final S3Service s3Service;
     private final KakaoService kakaoService;
+    private final UserHikingSummaryService userHikingSummaryService;
 
     @Override
     @Transactional
@@ -79,6 +81,7 @@ public class AuthServiceImpl implements AuthService {
                 .build();
 
         userRepository.save(user);
+        userHikingSummaryService.createEmpty(user);
         log.info("new user: userId={}", user.getId());
     }
 
@@ -217,6 +220,7 @@ public class AuthServiceImpl implements AuthService {
                 .build();
 
         userRepository.save(newUser);
+        userHikingSummaryService.createEmpty(newUser);
         log.info("new user(kakao): userId={}", newUser.getId());
 
         // 회원가입 후 로그인 처리 및 응답 생성
@@ -0,0 +1,29 @@
+package com.ssafy.ollana.common.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/*
+ * 등산로 좌표가 포함된 조회 응답, 지도 타일에 ETag 부여
+ * - If-None-Match가 같으면 본문 없이 304 응답 (바뀌지 않은 등산로를 다시 내려받지 않음)
+ * - 좌표 JSON은 PathRouteCache에서 미리 직렬화되어 있으므로 해시 계산 비용만 추가됨
+ */
+@Configuration
+public class EtagConfig {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns(
+                "/tracking/mountains/nearby",
+                "/tracking/search/list",
+                "/tracking/search/mountain/*",
+                "/mountain/detail/*",
+                "/mountain/tiles/*"
+        );
+        registration.setName("shallowEtagHeaderFilter");
+        return registration;
+    }
+}
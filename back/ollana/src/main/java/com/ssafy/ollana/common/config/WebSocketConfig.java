@@ -0,0 +1,29 @@
+package com.ssafy.ollana.common.config;
+
+import com.ssafy.ollana.tracking.web.socket.TrackingLiveWebSocketHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final TrackingLiveWebSocketHandler trackingLiveWebSocketHandler;
+    private final String[] allowedOrigins;
+
+    // 목록에 없는 브라우저 Origin은 거부 (Origin 헤더가 없는 앱 클라이언트는 그대로 허용됨)
+    public WebSocketConfig(TrackingLiveWebSocketHandler trackingLiveWebSocketHandler,
+                           @Value("${tracking.live.allowed-origins:}") String[] allowedOrigins) {
+        this.trackingLiveWebSocketHandler = trackingLiveWebSocketHandler;
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(trackingLiveWebSocketHandler, "/tracking/live")
+                .setAllowedOrigins(allowedOrigins);
+    }
+}
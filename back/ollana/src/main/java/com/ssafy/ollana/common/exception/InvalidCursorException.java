@@ -0,0 +1,7 @@
+package com.ssafy.ollana.common.exception;
+
+public class InvalidCursorException extends BusinessException {
+    public InvalidCursorException() {
+        super("잘못된 페이지 커서입니다.", "C-001");
+    }
+}
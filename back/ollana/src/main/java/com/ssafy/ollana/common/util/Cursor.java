@@ -0,0 +1,57 @@
+package com.ssafy.ollana.common.util;
+
+import com.ssafy.ollana.common.exception.InvalidCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/*
+ * keyset 페이지 위치 (마지막으로 내려준 행의 정렬 키)
+ * - (createdAt, id) 또는 (id) 를 base64url 문자열로 감싸 클라이언트에는 값의 의미를 노출하지 않음
+ * - 다음 페이지는 이 키 다음 행부터 조회하므로 몇 번째 페이지든 첫 페이지와 같은 비용
+ */
+@Getter
+public class Cursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Integer id;
+
+    private Cursor(LocalDateTime createdAt, Integer id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static Cursor of(Integer id) {
+        return new Cursor(null, id);
+    }
+
+    public static Cursor of(LocalDateTime createdAt, Integer id) {
+        return new Cursor(createdAt, id);
+    }
+
+    public String encode() {
+        String raw = createdAt == null ? String.valueOf(id) : createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 첫 페이지(cursor 없음)는 null
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return of(Integer.valueOf(raw));
+            }
+            return of(LocalDateTime.parse(raw.substring(0, separator)), Integer.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ssafy.ollana.common.util;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/*
+ * keyset 페이지 응답 (전체 개수/페이지 수 없이 다음 페이지 여부와 커서만 반환)
+ * - size + 1개를 조회해서 넘치면 다음 페이지가 있는 것으로 판단 (count 쿼리 없음)
+ */
+@Getter
+public class CursorResponse<T> {
+
+    // 한 번에 조회할 수 있는 최대 개수
+    private static final int MAX_SIZE = 100;
+
+    private final Map<String, List<T>> data = new HashMap<>();
+    private String nextCursor;
+    private boolean hasNext;
+
+    /*
+     * rows : size + 1개까지 조회한 결과
+     * cursorOf : 마지막 행으로 다음 커서 생성
+     */
+    public static <E, T> CursorResponse<T> of(String key, List<E> rows, int size,
+                                              Function<E, Cursor> cursorOf, Function<E, T> mapper) {
+        CursorResponse<T> response = new CursorResponse<>();
+        response.hasNext = rows.size() > size;
+
+        List<E> content = response.hasNext ? rows.subList(0, size) : rows;
+        response.data.put(key, content.stream().map(mapper).toList());
+        if (response.hasNext) {
+            response.nextCursor = cursorOf.apply(content.get(content.size() - 1)).encode();
+        }
+        return response;
+    }
+
+    public static int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    @JsonAnyGetter
+    public Map<String, List<T>> getData() {
+        return data;
+    }
+}
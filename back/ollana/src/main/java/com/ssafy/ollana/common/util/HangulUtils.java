@@ -0,0 +1,89 @@
+package com.ssafy.ollana.common.util;
+
+/*
+ * 한글 자모 분해 / 초성 추출
+ * - 완성형 음절과 호환 자모(ㄱ, ㅘ, ㄳ ...)를 모두 낱자모로 분해 (겹모음/겹받침도 나눔)
+ *   입력 중인 글자("북하", "북한ㅅ")도 완성된 이름("북한산")의 분해 결과 앞부분과 같아짐
+ * - 공백은 제거, 영문은 소문자로 변환
+ */
+public class HangulUtils {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모 중 겹자모 -> 낱자모
+    private static final String COMPOUND = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅂㅅ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    /*
+     * 공백 제거 + 소문자
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /*
+     * 낱자모 분해 (normalize 포함) : "북한산" -> "ㅂㅜㄱㅎㅏㄴㅅㅏㄴ"
+     */
+    public static String decompose(String text) {
+        String normalized = normalize(text);
+        StringBuilder sb = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                sb.append(CHOSEONG[index / 588])
+                  .append(JUNGSEONG[(index % 588) / 28])
+                  .append(JONGSEONG[index % 28]);
+            } else {
+                int compound = COMPOUND.indexOf(c);
+                sb.append(compound >= 0 ? COMPOUND_SPLIT[compound] : String.valueOf(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /*
+     * 초성 (normalize 포함) : "북한산" -> "ㅂㅎㅅ" (한글이 아닌 글자는 그대로)
+     */
+    public static String choseong(String text) {
+        String normalized = normalize(text);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            sb.append(isSyllable(c) ? CHOSEONG[(c - SYLLABLE_BASE) / 588] : String.valueOf(c));
+        }
+        return sb.toString();
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+}
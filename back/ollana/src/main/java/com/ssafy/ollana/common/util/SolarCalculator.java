@@ -0,0 +1,113 @@
+package com.ssafy.ollana.common.util;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/*
+ * 일출/일몰 시각 계산 (NOAA Solar Calculator 식)
+ * - 태양 적위, 균시차로 태양 남중 시각과 일출/일몰 시간각을 구함
+ * - 정오 기준으로 한 번 계산한 뒤, 구한 일출/일몰 시각으로 다시 계산해 오차를 줄임 (1분 이내)
+ * - 기준 고도각 -0.833°(대기 굴절 + 태양 반지름)에 관측 고도(m)만큼 지평선이 낮아지는 값을 더함
+ * - 극지방처럼 해가 뜨거나 지지 않는 날은 null
+ */
+public class SolarCalculator {
+
+    private static final double STANDARD_ELEVATION = -0.833;
+    private static final double MINUTES_PER_DAY = 1440d;
+
+    @Getter
+    public static class SunTimes {
+        private final LocalTime sunrise;
+        private final LocalTime sunset;
+
+        private SunTimes(LocalTime sunrise, LocalTime sunset) {
+            this.sunrise = sunrise;
+            this.sunset = sunset;
+        }
+
+        public static SunTimes of(LocalTime sunrise, LocalTime sunset) {
+            return new SunTimes(sunrise, sunset);
+        }
+    }
+
+    public static SunTimes calculate(LocalDate date, double latitude, double longitude, double altitude, ZoneId zone) {
+        double elevation = STANDARD_ELEVATION - 2.076 * Math.sqrt(Math.max(0, altitude)) / 60;
+        double julianDay = date.toEpochDay() + 2440587.5;
+
+        Double sunrise = refine(julianDay, latitude, longitude, elevation, -1);
+        Double sunset = refine(julianDay, latitude, longitude, elevation, 1);
+
+        return SunTimes.of(toLocalTime(date, sunrise, zone), toLocalTime(date, sunset, zone));
+    }
+
+    // 태양 남중 시각 근처에서 시작해 2번 반복
+    private static Double refine(double julianDay, double latitude, double longitude, double elevation, int direction) {
+        Double minutes = eventMinutes(julianDay, MINUTES_PER_DAY / 2 - 4 * longitude, latitude, longitude, elevation, direction);
+        for (int i = 0; i < 2 && minutes != null; i++) {
+            minutes = eventMinutes(julianDay, minutes, latitude, longitude, elevation, direction);
+        }
+        return minutes;
+    }
+
+    /*
+     * utcMinutes 시점의 태양 위치로 계산한 사건 시각 (해당 날짜 UTC 0시 기준 분)
+     * direction : -1 일출, 1 일몰
+     */
+    private static Double eventMinutes(double julianDay, double utcMinutes, double latitude, double longitude,
+                                       double elevation, int direction) {
+        double t = (julianDay + utcMinutes / MINUTES_PER_DAY - 2451545.0) / 36525.0;
+
+        double meanLong = normalize(280.46646 + t * (36000.76983 + t * 0.0003032));
+        double meanAnomaly = 357.52911 + t * (35999.05029 - 0.0001537 * t);
+        double eccentricity = 0.016708634 - t * (0.000042037 + 0.0000001267 * t);
+        double m = Math.toRadians(meanAnomaly);
+        double center = Math.sin(m) * (1.914602 - t * (0.004817 + 0.000014 * t))
+                + Math.sin(2 * m) * (0.019993 - 0.000101 * t)
+                + Math.sin(3 * m) * 0.000289;
+        double omega = Math.toRadians(125.04 - 1934.136 * t);
+        double apparentLong = Math.toRadians(meanLong + center - 0.00569 - 0.00478 * Math.sin(omega));
+
+        double meanObliquity = 23 + (26 + (21.448 - t * (46.815 + t * (0.00059 - t * 0.001813))) / 60) / 60;
+        double obliquity = Math.toRadians(meanObliquity + 0.00256 * Math.cos(omega));
+        double declination = Math.asin(Math.sin(obliquity) * Math.sin(apparentLong));
+
+        double y = Math.pow(Math.tan(obliquity / 2), 2);
+        double l0 = Math.toRadians(meanLong);
+        double equationOfTime = 4 * Math.toDegrees(y * Math.sin(2 * l0)
+                - 2 * eccentricity * Math.sin(m)
+                + 4 * eccentricity * y * Math.sin(m) * Math.cos(2 * l0)
+                - 0.5 * y * y * Math.sin(4 * l0)
+                - 1.25 * eccentricity * eccentricity * Math.sin(2 * m));
+
+        double solarNoon = 720 - 4 * longitude - equationOfTime;
+
+        double lat = Math.toRadians(latitude);
+        double cosHourAngle = (Math.sin(Math.toRadians(elevation)) - Math.sin(lat) * Math.sin(declination))
+                / (Math.cos(lat) * Math.cos(declination));
+        if (cosHourAngle < -1 || cosHourAngle > 1) {
+            return null;
+        }
+        double hourAngle = Math.toDegrees(Math.acos(cosHourAngle));
+        return solarNoon + direction * 4 * hourAngle;
+    }
+
+    private static LocalTime toLocalTime(LocalDate date, Double utcMinutes, ZoneId zone) {
+        if (utcMinutes == null) {
+            return null;
+        }
+        long seconds = Math.round(utcMinutes * 60);
+        return date.atStartOfDay(ZoneOffset.UTC)
+                   .plusSeconds(seconds)
+                   .withZoneSameInstant(zone)
+                   .toLocalTime();
+    }
+
+    private static double normalize(double degrees) {
+        double value = degrees % 360;
+        return value < 0 ? value + 360 : value;
+    }
+}
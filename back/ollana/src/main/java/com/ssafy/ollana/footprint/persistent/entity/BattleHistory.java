@@ -14,8 +14,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -23,6 +25,12 @@ import org.hibernate.annotations.OnDeleteAction;
 @Getter
 @Builder
 @Entity
+@Table(
+		name = "battle_history",
+		indexes = {
+				@Index(name = "idx_battle_history_user_created", columnList = "user_id, created_at, battle_history_id")
+		}
+)
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BattleHistory extends BaseEntity {
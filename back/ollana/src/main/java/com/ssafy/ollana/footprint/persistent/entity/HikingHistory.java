@@ -14,7 +14,8 @@ import java.util.List;
 @Table(
 		name = "hiking_history",
 		indexes = {
-				@Index(name = "idx_history_footprint_path", columnList = "footprint_id, path_id")
+				// (footprint_id, path_id) 조회도 이 인덱스의 앞 컬럼으로 처리
+				@Index(name = "idx_history_footprint_path_created", columnList = "footprint_id, path_id, created_at")
 		}
 )
 @AllArgsConstructor
@@ -45,12 +46,17 @@ public class HikingHistory extends BaseEntity {
 		double avg = heartRates.stream().mapToInt(i -> i).average().orElse(0);
 		int max = heartRates.stream().mapToInt(i -> i).max().orElse(0);
 
+		return of(footprint, path, hikingTime, avg, max);
+	}
+
+	// 심박수 평균/최대값을 이미 계산한 경우
+	public static HikingHistory of(Footprint footprint, Path path, int hikingTime, double averageHeartRate, int maxHeartRate) {
 		return HikingHistory.builder()
 				.footprint(footprint)
 				.path(path)
 				.hikingTime(hikingTime)
-				.averageHeartRate(avg)
-				.maxHeartRate(max)
+				.averageHeartRate(averageHeartRate)
+				.maxHeartRate(maxHeartRate)
 				.build();
 	}
 }
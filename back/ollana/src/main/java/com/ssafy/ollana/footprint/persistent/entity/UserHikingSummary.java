@@ -0,0 +1,94 @@
+package com.ssafy.ollana.footprint.persistent.entity;
+
+import com.ssafy.ollana.common.BaseEntity;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.entity.Path;
+import com.ssafy.ollana.user.entity.Grade;
+import com.ssafy.ollana.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/*
+ * 사용자별 등산 요약 (홈 화면, 로그인 응답용 읽기 모델)
+ * - user_id 기본키 조회 한 번으로 최근 등산/같은 등산로 이전 기록/누적값/등급을 모두 제공
+ * - 트래킹 종료 저장 시 같은 트랜잭션에서 upsert (UserHikingSummaryRepository.upsertHike)
+ */
+@Getter
+@Builder
+@Entity
+@Table(name = "user_hiking_summary")
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserHikingSummary extends BaseEntity {
+
+	@Id
+	@Column(name = "user_id")
+	private Integer userId;
+
+	@MapsId
+	@OneToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id")
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	private User user;
+
+	// 가장 최근 등산 (기록이 없으면 null)
+	private Integer latestHistoryId;
+	private Integer latestPathId;
+	private String latestMountainName;
+	private LocalDateTime latestHikedAt;
+	private Integer latestHikingTime;
+	private Double latestPathLength;
+
+	// 가장 최근 등산과 같은 등산로의 바로 이전 기록 시간 (없으면 null)
+	private Integer previousSamePathTime;
+
+	private int hikeCount;
+	private double totalDistance;
+	private int exp;
+	private int gradeCount;
+
+	@Enumerated(EnumType.STRING)
+	private Grade grade;
+
+	public static UserHikingSummary of(User user) {
+		UserHikingSummary summary = UserHikingSummary.builder()
+				.user(user)
+				.build();
+		summary.syncUser(user);
+		return summary;
+	}
+
+	// 기존 기록으로 생성 (latest : 가장 최근 기록, hikeCount : 전체 기록 수)
+	public static UserHikingSummary of(User user, HikingHistory latest, Integer previousSamePathTime, int hikeCount) {
+		UserHikingSummary summary = of(user);
+		summary.applyLatest(latest, latest.getFootprint().getMountain(), latest.getPath(), previousSamePathTime);
+		summary.hikeCount = hikeCount;
+		return summary;
+	}
+
+	public boolean hasHiked() {
+		return latestHistoryId != null;
+	}
+
+	private void applyLatest(HikingHistory history, Mountain mountain, Path path, Integer previousSamePathTime) {
+		this.latestHistoryId = history.getId();
+		this.latestPathId = path.getId();
+		this.latestMountainName = mountain.getMountainName();
+		this.latestHikedAt = history.getCreatedAt();
+		this.latestHikingTime = history.getHikingTime();
+		this.latestPathLength = path.getPathLength();
+		this.previousSamePathTime = previousSamePathTime;
+	}
+
+	// 경험치/등급/누적 거리는 User 값을 그대로 복사
+	public void syncUser(User user) {
+		this.totalDistance = user.getTotalDistance();
+		this.exp = user.getExp();
+		this.gradeCount = user.getGradeCount();
+		this.grade = user.getGrade();
+	}
+}
@@ -4,8 +4,30 @@ import com.ssafy.ollana.footprint.persistent.entity.BattleHistory;
 import com.ssafy.ollana.footprint.persistent.entity.enums.BattleType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface BattleHistoryRepository extends JpaRepository<BattleHistory, Integer> {
+
+    // 목록 응답에 쓰이는 산/상대방을 함께 조회 (ManyToOne만 fetch하므로 페이징은 DB에서 처리됨)
+    @EntityGraph(attributePaths = {"mountain", "opponent"})
     Page<BattleHistory> findByUserId(Integer userId, Pageable pageable);
+
+    // keyset 페이지 (최신순, idx_battle_history_user_created 사용 / count 쿼리 없음)
+    @Query("SELECT b FROM BattleHistory b JOIN FETCH b.mountain LEFT JOIN FETCH b.opponent WHERE b.user.id = :userId " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BattleHistory> findScrollByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    @Query("SELECT b FROM BattleHistory b JOIN FETCH b.mountain LEFT JOIN FETCH b.opponent WHERE b.user.id = :userId " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BattleHistory> findScrollByUserIdAfter(@Param("userId") Integer userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Integer id,
+                                                Pageable pageable);
 }
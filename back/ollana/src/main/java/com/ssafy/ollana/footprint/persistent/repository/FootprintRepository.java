@@ -5,11 +5,36 @@ import com.ssafy.ollana.mountain.persistent.entity.Mountain;
 import com.ssafy.ollana.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface FootprintRepository extends JpaRepository<Footprint, Integer> {
+    // 목록 응답에 쓰이는 산을 함께 조회 (ManyToOne만 fetch하므로 페이징은 DB에서 처리됨)
+    @EntityGraph(attributePaths = {"mountain"})
     Page<Footprint> findByUserId(Integer userId, Pageable pageable);
+
     Optional<Footprint> findByUserAndMountain(User user, Mountain mountain);
+
+    // 산별 발자취 수 [mountainId, count]
+    @Query("SELECT f.mountain.id, COUNT(f) FROM Footprint f GROUP BY f.mountain.id")
+    List<Object[]> countFootprintsByMountain();
+
+    // keyset 페이지 (최신순, idx_footprint_user_created 사용 / count 쿼리 없음)
+    @Query("SELECT f FROM Footprint f JOIN FETCH f.mountain WHERE f.user.id = :userId " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Footprint> findScrollByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    @Query("SELECT f FROM Footprint f JOIN FETCH f.mountain WHERE f.user.id = :userId " +
+           "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Footprint> findScrollByUserIdAfter(@Param("userId") Integer userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Integer id,
+                                            Pageable pageable);
 }
@@ -2,11 +2,17 @@ package com.ssafy.ollana.footprint.persistent.repository;
 
 import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface HikingHistoryRepository extends JpaRepository<HikingHistory, Integer>, HikingHistoryRepositoryCustom {
     List<HikingHistory> findAllByFootprintIdOrderByCreatedAtAsc(Integer footprintId);
 
+    // 기록의 등산로 id만 조회 (대결 상대 기록 검증용)
+    @Query("SELECT h.path.id FROM HikingHistory h WHERE h.id = :id")
+    Optional<Integer> findPathIdById(@Param("id") Integer id);
 
 }
@@ -11,4 +11,6 @@ public interface HikingHistoryRepositoryCustom {
     Optional<HikingHistory> findLatestRecord(Integer userId, Integer mountainId, Integer pathId);
     List<HikingHistory> findOpponentHistories(Integer userId, Integer mountainId, Integer pathId);
     List<HikingHistory> findAllByUserIdOrderByCreatedAtDesc(Integer userId);
+    List<PathHistoryRow> findPathHistoryPage(Integer footprintId, long offset, int limit, int recordsPerPath);
+    long countPaths(Integer footprintId);
 }
@@ -5,6 +5,7 @@ import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
 import com.ssafy.ollana.footprint.persistent.entity.QFootprint;
 import com.ssafy.ollana.mountain.persistent.entity.QMountain;
 import com.ssafy.ollana.mountain.persistent.entity.QPath;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
@@ -21,6 +22,7 @@ import static com.ssafy.ollana.mountain.persistent.entity.QPath.path;
 @RequiredArgsConstructor
 public class HikingHistoryRepositoryImpl implements HikingHistoryRepositoryCustom {
     private final JPAQueryFactory queryFactory;
+    private final EntityManager em;
 
     @Override
     public List<HikingHistory> findHistories(Integer footprintId, Integer pathId, LocalDateTime start, LocalDateTime end) {
@@ -75,4 +77,64 @@ public class HikingHistoryRepositoryImpl implements HikingHistoryRepositoryCusto
                             .orderBy(hikingHistory.createdAt.desc())
                             .fetch();
     }
+
+    /*
+     * 등산로 단위 페이지 (최근 기록이 최신인 등산로 순) + 등산로별 최신 recordsPerPath개 기록
+     * - ROW_NUMBER로 등산로 안의 최신순 순번, LEAD로 바로 이전 기록을 같은 스캔에서 계산
+     * - 등산로 목록에만 LIMIT/OFFSET을 걸고, 그 등산로들의 상위 기록만 조인해서 반환
+     * - COUNT(*) OVER()는 LIMIT 전에 계산되므로 전체 등산로 수를 별도 쿼리 없이 함께 받음
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PathHistoryRow> findPathHistoryPage(Integer footprintId, long offset, int limit, int recordsPerPath) {
+        String sql = """
+            WITH ranked AS (
+                SELECT h.hiking_history_id, h.path_id, h.created_at,
+                       h.hiking_time, h.average_heart_rate, h.max_heart_rate,
+                       ROW_NUMBER() OVER w AS rn,
+                       LEAD(h.hiking_time) OVER w AS prev_hiking_time,
+                       LEAD(h.average_heart_rate) OVER w AS prev_average_heart_rate,
+                       LEAD(h.max_heart_rate) OVER w AS prev_max_heart_rate
+                FROM hiking_history h
+                WHERE h.footprint_id = :footprintId
+                WINDOW w AS (PARTITION BY h.path_id ORDER BY h.created_at DESC, h.hiking_history_id DESC)
+            ),
+            paths AS (
+                SELECT r.path_id, r.created_at AS latest_at, COUNT(*) OVER () AS total_paths
+                FROM ranked r
+                WHERE r.rn = 1
+                ORDER BY r.created_at DESC, r.path_id
+                LIMIT :limit OFFSET :offset
+            )
+            SELECT p.path_id, pa.path_name, p.total_paths,
+                   r.hiking_history_id, r.created_at, r.hiking_time, r.average_heart_rate, r.max_heart_rate, r.rn,
+                   r.prev_hiking_time, r.prev_average_heart_rate, r.prev_max_heart_rate
+            FROM paths p
+            JOIN path pa ON pa.path_id = p.path_id
+            JOIN ranked r ON r.path_id = p.path_id AND r.rn <= :recordsPerPath
+            ORDER BY p.latest_at DESC, p.path_id, r.rn
+        """;
+
+        List<Object[]> rows = em.createNativeQuery(sql)
+                .setParameter("footprintId", footprintId)
+                .setParameter("offset", offset)
+                .setParameter("limit", limit)
+                .setParameter("recordsPerPath", recordsPerPath)
+                .getResultList();
+
+        return rows.stream()
+                .map(PathHistoryRow::new)
+                .toList();
+    }
+
+    // 요청한 페이지가 범위를 벗어나 행이 없을 때만 사용
+    @Override
+    public long countPaths(Integer footprintId) {
+        Long count = queryFactory
+                .select(hikingHistory.path.id.countDistinct())
+                .from(hikingHistory)
+                .where(hikingHistory.footprint.id.eq(footprintId))
+                .fetchOne();
+        return count != null ? count : 0;
+    }
 }
@@ -0,0 +1,58 @@
+package com.ssafy.ollana.footprint.persistent.repository;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/*
+ * 나 vs 나 기록 페이지 한 행 (등산로별 최신 N개 기록 중 하나)
+ * - rank : 등산로 안에서 최신순 순번 (1 = 가장 최근)
+ * - previous* : 바로 이전 기록 값 (rank 1 행의 비교용, 이전 기록이 없으면 null)
+ * - totalPaths : 전체 등산로 수 (페이지 계산용)
+ */
+@Getter
+public class PathHistoryRow {
+    private final Integer pathId;
+    private final String pathName;
+    private final long totalPaths;
+    private final Integer recordId;
+    private final LocalDateTime createdAt;
+    private final int hikingTime;
+    private final double averageHeartRate;
+    private final int maxHeartRate;
+    private final int rank;
+    private final Integer previousHikingTime;
+    private final Double previousAverageHeartRate;
+    private final Integer previousMaxHeartRate;
+
+    public PathHistoryRow(Object[] row) {
+        this.pathId = toInteger(row[0]);
+        this.pathName = (String) row[1];
+        this.totalPaths = ((Number) row[2]).longValue();
+        this.recordId = toInteger(row[3]);
+        this.createdAt = toLocalDateTime(row[4]);
+        this.hikingTime = ((Number) row[5]).intValue();
+        this.averageHeartRate = ((Number) row[6]).doubleValue();
+        this.maxHeartRate = ((Number) row[7]).intValue();
+        this.rank = ((Number) row[8]).intValue();
+        this.previousHikingTime = toInteger(row[9]);
+        this.previousAverageHeartRate = row[10] != null ? ((Number) row[10]).doubleValue() : null;
+        this.previousMaxHeartRate = toInteger(row[11]);
+    }
+
+    public boolean hasPrevious() {
+        return previousHikingTime != null;
+    }
+
+    private static Integer toInteger(Object value) {
+        return value != null ? ((Number) value).intValue() : null;
+    }
+
+    // 드라이버/Hibernate 버전에 따라 Timestamp 또는 LocalDateTime으로 올 수 있음
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
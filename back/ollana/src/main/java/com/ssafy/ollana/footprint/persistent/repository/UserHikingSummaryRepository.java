@@ -0,0 +1,109 @@
+package com.ssafy.ollana.footprint.persistent.repository;
+
+import com.ssafy.ollana.footprint.persistent.entity.UserHikingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface UserHikingSummaryRepository extends JpaRepository<UserHikingSummary, Integer> {
+
+    /*
+     * 새 등산 기록 반영 (행이 없으면 전체 기록 기준으로 생성, 있으면 증분 갱신)
+     * - 직전 등산이 같은 등산로면 그 시간이, 아니면 같은 등산로의 가장 최근 다른 기록 시간이 이전 기록
+     * - INSERT ... ON CONFLICT 한 문장이라 동시에 처음 저장돼도 기본키 충돌 없음
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_hiking_summary AS s (
+                user_id, latest_history_id, latest_path_id, latest_mountain_name, latest_hiked_at,
+                latest_hiking_time, latest_path_length, previous_same_path_time, hike_count,
+                total_distance, exp, grade_count, grade, created_at, updated_at
+            ) VALUES (
+                :userId, :historyId, :pathId, CAST(:mountainName AS varchar), :hikedAt,
+                :hikingTime, CAST(:pathLength AS double precision),
+                (SELECT h.hiking_time
+                   FROM hiking_history h
+                   JOIN footprint f ON f.footprint_id = h.footprint_id
+                  WHERE f.user_id = :userId AND h.path_id = :pathId AND h.hiking_history_id <> :historyId
+                  ORDER BY h.created_at DESC
+                  LIMIT 1),
+                (SELECT COUNT(*)
+                   FROM hiking_history h
+                   JOIN footprint f ON f.footprint_id = h.footprint_id
+                  WHERE f.user_id = :userId),
+                :totalDistance, :exp, :gradeCount, :grade, :now, :now
+            )
+            ON CONFLICT (user_id) DO UPDATE SET
+                previous_same_path_time = CASE WHEN s.latest_path_id = EXCLUDED.latest_path_id
+                                               THEN s.latest_hiking_time
+                                               ELSE EXCLUDED.previous_same_path_time END,
+                latest_history_id = EXCLUDED.latest_history_id,
+                latest_path_id = EXCLUDED.latest_path_id,
+                latest_mountain_name = EXCLUDED.latest_mountain_name,
+                latest_hiked_at = EXCLUDED.latest_hiked_at,
+                latest_hiking_time = EXCLUDED.latest_hiking_time,
+                latest_path_length = EXCLUDED.latest_path_length,
+                hike_count = s.hike_count + 1,
+                total_distance = EXCLUDED.total_distance,
+                exp = EXCLUDED.exp,
+                grade_count = EXCLUDED.grade_count,
+                grade = EXCLUDED.grade,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void upsertHike(@Param("userId") Integer userId,
+                    @Param("historyId") Integer historyId,
+                    @Param("pathId") Integer pathId,
+                    @Param("mountainName") String mountainName,
+                    @Param("hikedAt") LocalDateTime hikedAt,
+                    @Param("hikingTime") int hikingTime,
+                    @Param("pathLength") Double pathLength,
+                    @Param("totalDistance") double totalDistance,
+                    @Param("exp") int exp,
+                    @Param("gradeCount") int gradeCount,
+                    @Param("grade") String grade,
+                    @Param("now") LocalDateTime now);
+
+    /*
+     * 요약이 없는 사용자를 user_id 순으로 batchSize명씩 생성 (기존 사용자 일괄 생성용)
+     * - 이미 있으면 건너뛰므로 여러 서버에서 동시에 실행해도 안전
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_hiking_summary (
+                user_id, latest_history_id, latest_path_id, latest_mountain_name, latest_hiked_at,
+                latest_hiking_time, latest_path_length, previous_same_path_time, hike_count,
+                total_distance, exp, grade_count, grade, created_at, updated_at
+            )
+            SELECT u.user_id, l.hiking_history_id, l.path_id, l.mountain_name, l.created_at,
+                   l.hiking_time, l.path_length, l.previous_time, COALESCE(l.hike_count, 0),
+                   u.total_distance, u.exp, u.grade_count, u.grade, :now, :now
+              FROM users u
+              LEFT JOIN LATERAL (
+                    SELECT h.hiking_history_id, h.path_id, m.mountain_name, h.created_at,
+                           h.hiking_time, p.path_length,
+                           (SELECT h2.hiking_time
+                              FROM hiking_history h2
+                              JOIN footprint f2 ON f2.footprint_id = h2.footprint_id
+                             WHERE f2.user_id = u.user_id AND h2.path_id = h.path_id
+                               AND h2.hiking_history_id <> h.hiking_history_id
+                             ORDER BY h2.created_at DESC
+                             LIMIT 1) AS previous_time,
+                           COUNT(*) OVER () AS hike_count
+                      FROM hiking_history h
+                      JOIN footprint f ON f.footprint_id = h.footprint_id
+                      JOIN mountain m ON m.mountain_id = f.mountain_id
+                      JOIN path p ON p.path_id = h.path_id
+                     WHERE f.user_id = u.user_id
+                     ORDER BY h.created_at DESC
+                     LIMIT 1
+              ) l ON TRUE
+             WHERE NOT EXISTS (SELECT 1 FROM user_hiking_summary s WHERE s.user_id = u.user_id)
+             ORDER BY u.user_id
+             LIMIT :batchSize
+            ON CONFLICT (user_id) DO NOTHING
+            """, nativeQuery = true)
+    int backfillMissing(@Param("batchSize") int batchSize, @Param("now") LocalDateTime now);
+}
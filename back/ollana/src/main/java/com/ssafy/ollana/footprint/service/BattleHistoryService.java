@@ -1,5 +1,7 @@
 package com.ssafy.ollana.footprint.service;
 
+import com.ssafy.ollana.common.util.Cursor;
+import com.ssafy.ollana.common.util.CursorResponse;
 import com.ssafy.ollana.common.util.PageResponse;
 import com.ssafy.ollana.common.util.PaginateUtil;
 import com.ssafy.ollana.footprint.persistent.entity.BattleHistory;
@@ -15,6 +17,7 @@ import com.ssafy.ollana.mountain.persistent.entity.Path;
 import com.ssafy.ollana.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,6 +42,24 @@ public class BattleHistoryService {
         return new PageResponse<>("list", dtoPage);
     }
 
+    /*
+     * 나 vs 친구, 나 vs AI 기록 조회 (커서 기반, 최신순)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<UserVersusOtherResponseDto> getHikingBattleRecordsScroll(Integer userId, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        size = CursorResponse.normalizeSize(size);
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<BattleHistory> rows = after == null
+                ? battleHistoryRepository.findScrollByUserId(userId, limit)
+                : battleHistoryRepository.findScrollByUserIdAfter(userId, after.getCreatedAt(), after.getId(), limit);
+
+        return CursorResponse.of("list", rows, size,
+                history -> Cursor.of(history.getCreatedAt(), history.getId()),
+                UserVersusOtherResponseDto::from);
+    }
+
     public void saveBattleHistoryAfterTracking(User user, User opponent,
                                                Mountain mountain, Path path,
                                                Integer recordId, Integer finalTime) {
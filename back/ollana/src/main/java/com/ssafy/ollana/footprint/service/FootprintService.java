@@ -1,11 +1,12 @@
 package com.ssafy.ollana.footprint.service;
 
+import com.ssafy.ollana.common.util.Cursor;
+import com.ssafy.ollana.common.util.CursorResponse;
 import com.ssafy.ollana.common.util.PageResponse;
 import com.ssafy.ollana.common.util.PaginateUtil;
 import com.ssafy.ollana.footprint.persistent.entity.Footprint;
-import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
+import com.ssafy.ollana.footprint.persistent.entity.UserHikingSummary;
 import com.ssafy.ollana.footprint.persistent.repository.FootprintRepository;
-import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
 import com.ssafy.ollana.footprint.service.exception.NotFoundException;
 import com.ssafy.ollana.footprint.web.dto.response.*;
 
@@ -13,6 +14,7 @@ import com.ssafy.ollana.user.entity.User;
 import com.ssafy.ollana.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,8 +26,8 @@ import java.util.List;
 public class FootprintService {
 
     private final FootprintRepository footprintRepository;
-    private final HikingHistoryRepository hikingHistoryRepository;
     private final UserRepository userRepository;
+    private final UserHikingSummaryService userHikingSummaryService;
 
     /*
      * 발자취 목록 조회
@@ -55,6 +57,28 @@ public class FootprintService {
                 .build();
     }
 
+    /*
+     * 발자취 목록 조회 (커서 기반, 최신순)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<FootprintResponseDto> getFootprintScroll(Integer userId, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        size = CursorResponse.normalizeSize(size);
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<Footprint> rows = after == null
+                ? footprintRepository.findScrollByUserId(userId, limit)
+                : footprintRepository.findScrollByUserIdAfter(userId, after.getCreatedAt(), after.getId(), limit);
+
+        return CursorResponse.of("mountains", rows, size,
+                footprint -> Cursor.of(footprint.getCreatedAt(), footprint.getId()),
+                footprint -> FootprintResponseDto.builder()
+                        .footprintId(footprint.getId())
+                        .mountainName(footprint.getMountain().getMountainName())
+                        .imgUrl(footprint.getMountain().getMountainBadge())
+                        .build());
+    }
+
 
     /*
      * 특정 발자취 조회
@@ -71,30 +95,16 @@ public class FootprintService {
      */
     @Transactional(readOnly = true)
     public LatestFootprintDescriptionResponseDto getFootprintDescription(Integer userId) {
-        User user = userRepository.findById(userId)
-                                  .orElseThrow(NotFoundException::new);
-
-        UserInfoResponseDto userDto = UserInfoResponseDto.of(user);
-        List<HikingHistory> histories = hikingHistoryRepository.findAllByUserIdOrderByCreatedAtDesc(userId);
+        // 사용자 등산 요약 기본키 조회 한 번
+        UserHikingSummary summary = userHikingSummaryService.getSummary(userId);
+        UserInfoResponseDto userDto = UserInfoResponseDto.of(summary);
 
-        if (histories.isEmpty()) {
+        if (!summary.hasHiked()) {
             return LatestFootprintDescriptionResponseDto.of(userDto, null);
         }
 
-        HikingHistory latestHistory = histories.get(0);
-        Integer pastTime = null;
-
-        for (int i = 1; i < histories.size(); i++) {
-            HikingHistory h = histories.get(i);
-            if (h.getPath().getId().equals(latestHistory.getPath().getId())) {
-                pastTime = h.getHikingTime();
-                break;
-            }
-        }
-
-        GrowthInfoResponseDto growthDto = GrowthInfoResponseDto.of(latestHistory, pastTime);
-
-        return LatestFootprintDescriptionResponseDto.of(userDto, growthDto);
+        return LatestFootprintDescriptionResponseDto.of(userDto, GrowthInfoResponseDto.of(summary));
     }
+
 }
 
@@ -4,11 +4,11 @@ import com.ssafy.ollana.common.util.PaginateUtil;
 import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
 import com.ssafy.ollana.footprint.persistent.entity.Footprint;
 import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
+import com.ssafy.ollana.footprint.persistent.repository.PathHistoryRow;
 import com.ssafy.ollana.footprint.service.exception.AccessDeniedException;
 import com.ssafy.ollana.footprint.service.exception.NotFoundException;
 import com.ssafy.ollana.footprint.web.dto.response.*;
 import com.ssafy.ollana.mountain.persistent.entity.Mountain;
-import com.ssafy.ollana.mountain.persistent.entity.Path;
 import com.ssafy.ollana.mountain.web.dto.response.MountainResponseDto;
 import com.ssafy.ollana.mountain.web.dto.response.PathResponseDto;
 import com.ssafy.ollana.footprint.web.dto.response.TodayHikingResultResponseDto;
@@ -31,6 +31,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class HikingHistoryService {
 
+    // 등산로마다 보여줄 최신 기록 수
+    private static final int RECORDS_PER_PATH = 5;
+
     private final HikingHistoryRepository hikingHistoryRepository;
     private final FootprintService footprintService;
 
@@ -46,70 +49,70 @@ public class HikingHistoryService {
 
         Mountain mountain = footprint.getMountain();
 
-        // 전체 기록 조회 및 path 기준 그룹화
-        List<HikingHistory> allHistories = hikingHistoryRepository.findAllByFootprintIdOrderByCreatedAtAsc(footprintId);
-        Map<Path, List<HikingHistory>> grouped = allHistories.stream()
-                .collect(Collectors.groupingBy(HikingHistory::getPath, LinkedHashMap::new, Collectors.toList()));
-
-        // path 단위로 페이징
-        List<Map.Entry<Path, List<HikingHistory>>> groupedList = new ArrayList<>(grouped.entrySet());
-
-        // 가장 최근 createdAt 기준으로 path 정렬
-        groupedList.sort((e1, e2) -> {
-            LocalDateTime latest1 = e1.getValue().get(e1.getValue().size() - 1).getCreatedAt();
-            LocalDateTime latest2 = e2.getValue().get(e2.getValue().size() - 1).getCreatedAt();
-            return latest2.compareTo(latest1);
-        });
-
-        int total = groupedList.size();
-        int start = Math.min(pageable.getPageNumber() * pageable.getPageSize(), total);
-        int end = Math.min(start + pageable.getPageSize(), total);
-
-        List<HikingHistoryWithPathResponseDto> dtoList = groupedList.subList(start, end).stream()
-                .map(entry -> {
-                    Path path = entry.getKey();
-                    List<HikingHistory> records = entry.getValue();
-
-                    DiffResponseDto result = null;
-                    if (records.size() >= 2) {
-                        List<HikingHistory> sortedRecords = records.stream()
-                                .sorted(Comparator.comparing(HikingHistory::getCreatedAt).reversed()) // 최신순 정렬
-                                .toList();
-                        HikingHistory latest = sortedRecords.get(0); // 가장 최신
-                        HikingHistory secondLatest = sortedRecords.get(1); // 두 번째 최신
-                        int timeDiff = latest.getHikingTime() - secondLatest.getHikingTime();
-                        int maxHrDiff = latest.getMaxHeartRate() - secondLatest.getMaxHeartRate();
-                        int avgHrDiff = (int) (latest.getAverageHeartRate() - secondLatest.getAverageHeartRate());
-
-                        result = DiffResponseDto.builder()
-                                .growthStatus(HikingHistoryUtils.determineStatus(timeDiff))
-                                .maxHeartRateDiff(maxHrDiff)
-                                .avgHeartRateDiff(avgHrDiff)
-                                .timeDiff(timeDiff)
-                                .build();
-                    }
-
-                    // 최신 5개 데이터를 과거 → 현재 순으로 정렬
-                    List<TodayHikingResultResponseDto> recordDtos = records.stream()
-                            .sorted(Comparator.comparing(HikingHistory::getCreatedAt).reversed()) // 최신순 정렬
-                            .limit(5)    // 최신 5개 선택
-                            .sorted(Comparator.comparing(HikingHistory::getCreatedAt)) // 과거 → 현재 순으로 재정렬
-                            .map(TodayHikingResultResponseDto::from)
-                            .toList();
-
-                    return HikingHistoryWithPathResponseDto.builder()
-                            .path(PathResponseDto.from(path))
-                            .result(result)
-                            .records(recordDtos)
-                            .build();
-                })
+        // 등산로 단위 페이지 + 등산로별 최신 기록을 한 번에 조회 (최근 기록이 최신인 등산로 순)
+        List<PathHistoryRow> rows = hikingHistoryRepository.findPathHistoryPage(
+                footprintId, pageable.getOffset(), pageable.getPageSize(), RECORDS_PER_PATH);
+
+        Map<Integer, List<PathHistoryRow>> grouped = rows.stream()
+                .collect(Collectors.groupingBy(PathHistoryRow::getPathId, LinkedHashMap::new, Collectors.toList()));
+
+        List<HikingHistoryWithPathResponseDto> dtoList = grouped.values().stream()
+                .map(this::toPathHistoryDto)
                 .toList();
 
+        long total = rows.isEmpty()
+                ? hikingHistoryRepository.countPaths(footprintId)
+                : rows.get(0).getTotalPaths();
+
         Page<HikingHistoryWithPathResponseDto> page = new PageImpl<>(dtoList, pageable, total);
         return new HikingHistoryResponseDto(MountainResponseDto.from(mountain), page);
     }
 
 
+    /*
+     * 한 등산로의 최신 기록들(최신순) -> 응답
+     * - 가장 최근 기록과 바로 이전 기록의 차이는 쿼리에서 함께 가져온 값으로 계산
+     */
+    private HikingHistoryWithPathResponseDto toPathHistoryDto(List<PathHistoryRow> records) {
+        PathHistoryRow latest = records.get(0);
+
+        DiffResponseDto result = null;
+        if (latest.hasPrevious()) {
+            int timeDiff = latest.getHikingTime() - latest.getPreviousHikingTime();
+            int maxHrDiff = latest.getMaxHeartRate() - latest.getPreviousMaxHeartRate();
+            int avgHrDiff = (int) (latest.getAverageHeartRate() - latest.getPreviousAverageHeartRate());
+
+            result = DiffResponseDto.builder()
+                    .growthStatus(HikingHistoryUtils.determineStatus(timeDiff))
+                    .maxHeartRateDiff(maxHrDiff)
+                    .avgHeartRateDiff(avgHrDiff)
+                    .timeDiff(timeDiff)
+                    .build();
+        }
+
+        // 과거 → 현재 순으로 정렬
+        List<TodayHikingResultResponseDto> recordDtos = new ArrayList<>(records.size());
+        for (int i = records.size() - 1; i >= 0; i--) {
+            PathHistoryRow row = records.get(i);
+            recordDtos.add(TodayHikingResultResponseDto.builder()
+                    .recordId(row.getRecordId())
+                    .date(row.getCreatedAt().toLocalDate())
+                    .maxHeartRate(row.getMaxHeartRate())
+                    .averageHeartRate(row.getAverageHeartRate())
+                    .time(row.getHikingTime())
+                    .build());
+        }
+
+        return HikingHistoryWithPathResponseDto.builder()
+                .path(PathResponseDto.builder()
+                        .pathId(latest.getPathId())
+                        .pathName(latest.getPathName())
+                        .build())
+                .result(result)
+                .records(recordDtos)
+                .build();
+    }
+
     /*
      * 나 vs 나 이전 기록 조회 (그래프)
      */
@@ -0,0 +1,62 @@
+package com.ssafy.ollana.footprint.service;
+
+import com.ssafy.ollana.footprint.persistent.repository.UserHikingSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/*
+ * 요약(user_hiking_summary)이 없는 기존 사용자의 요약을 일괄 생성
+ * - 서버 시작 후 백그라운드에서 batchSize명씩 각각의 트랜잭션으로 실행 (조회 요청에서는 저장하지 않음)
+ * - 이미 생성된 사용자는 건너뛰므로 모두 생성된 뒤에는 빈 INSERT 한 번으로 끝남
+ */
+@Slf4j
+@Component
+public class UserHikingSummaryBackfill {
+
+    private final UserHikingSummaryRepository userHikingSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public UserHikingSummaryBackfill(UserHikingSummaryRepository userHikingSummaryRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${footprint.summary.backfill-batch-size:500}") int batchSize) {
+        this.userHikingSummaryRepository = userHikingSummaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        backfill();
+    }
+
+    public void backfill() {
+        int total = 0;
+        try {
+            while (true) {
+                Integer inserted = transactionTemplate.execute(
+                        status -> userHikingSummaryRepository.backfillMissing(batchSize, LocalDateTime.now()));
+                if (inserted == null || inserted == 0) {
+                    break;
+                }
+                total += inserted;
+            }
+        } catch (Exception e) {
+            // 남은 사용자는 다음 실행 시 이어서 생성 (그 전까지는 조회 시 계산)
+            log.warn("사용자 등산 요약 일괄 생성 실패: {}", e.getMessage());
+        }
+
+        if (total > 0) {
+            log.info("사용자 등산 요약 일괄 생성: {}명", total);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ssafy.ollana.footprint.service;
+
+import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
+import com.ssafy.ollana.footprint.persistent.entity.UserHikingSummary;
+import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
+import com.ssafy.ollana.footprint.persistent.repository.UserHikingSummaryRepository;
+import com.ssafy.ollana.footprint.service.exception.NotFoundException;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.entity.Path;
+import com.ssafy.ollana.user.entity.User;
+import com.ssafy.ollana.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * 사용자 등산 요약(UserHikingSummary) 조회/갱신
+ * - 조회 : user_id 기본키 조회 한 번
+ * - 신규 사용자는 회원가입 시 빈 요약을 생성 (createEmpty)
+ * - 기존 사용자 요약은 UserHikingSummaryBackfill이 일괄 생성, 아직 없으면 전체 기록으로 계산만 해서 반환 (저장하지 않음)
+ * - 트래킹 종료 저장 시 recordHike로 upsert (행이 없으면 생성, 있으면 증분 갱신)
+ */
+@Service
+@RequiredArgsConstructor
+public class UserHikingSummaryService {
+
+    private final UserHikingSummaryRepository userHikingSummaryRepository;
+    private final HikingHistoryRepository hikingHistoryRepository;
+    private final UserRepository userRepository;
+
+    public UserHikingSummary getSummary(Integer userId) {
+        return userHikingSummaryRepository.findById(userId)
+                .orElseGet(() -> build(userRepository.findById(userId).orElseThrow(NotFoundException::new)));
+    }
+
+    /*
+     * 회원가입 시 호출 (같은 트랜잭션) - 등산 기록이 없는 요약을 미리 만들어 조회가 항상 기본키 조회 한 번으로 끝나도록 함
+     */
+    public void createEmpty(User user) {
+        userHikingSummaryRepository.save(UserHikingSummary.of(user));
+    }
+
+    /*
+     * 트래킹 종료 후 기록 저장, 경험치 갱신이 끝난 뒤 호출 (같은 트랜잭션)
+     */
+    public void recordHike(User user, Mountain mountain, Path path, HikingHistory history) {
+        userHikingSummaryRepository.upsertHike(
+                user.getId(),
+                history.getId(),
+                path.getId(),
+                mountain.getMountainName(),
+                history.getCreatedAt(),
+                history.getHikingTime(),
+                path.getPathLength(),
+                user.getTotalDistance(),
+                user.getExp(),
+                user.getGradeCount(),
+                user.getGrade().name(),
+                LocalDateTime.now()
+        );
+    }
+
+    // 기존 기록 전체로 요약 계산 (일괄 생성 전에 조회된 경우)
+    private UserHikingSummary build(User user) {
+        List<HikingHistory> histories = hikingHistoryRepository.findAllByUserIdOrderByCreatedAtDesc(user.getId());
+        if (histories.isEmpty()) {
+            return UserHikingSummary.of(user);
+        }
+
+        HikingHistory latest = histories.get(0);
+        Integer previousTime = null;
+        for (int i = 1; i < histories.size(); i++) {
+            if (histories.get(i).getPath().getId().equals(latest.getPath().getId())) {
+                previousTime = histories.get(i).getHikingTime();
+                break;
+            }
+        }
+
+        return UserHikingSummary.of(user, latest, previousTime, histories.size());
+    }
+}
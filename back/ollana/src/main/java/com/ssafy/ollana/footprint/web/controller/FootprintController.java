@@ -1,5 +1,6 @@
 package com.ssafy.ollana.footprint.web.controller;
 
+import com.ssafy.ollana.common.util.CursorResponse;
 import com.ssafy.ollana.common.util.PageResponse;
 import com.ssafy.ollana.common.util.Response;
 import com.ssafy.ollana.footprint.service.FootprintService;
@@ -13,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import lombok.RequiredArgsConstructor;
 
@@ -36,6 +38,19 @@ public class FootprintController {
         return ResponseEntity.ok(Response.success(response));
     }
 
+    /*
+     * 발자취 목록 조회 (커서 기반, 최신순)
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<Response<CursorResponse<FootprintResponseDto>>> getFootprintScroll(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "9") int size) {
+
+        CursorResponse<FootprintResponseDto> response = footprintService.getFootprintScroll(userDetails.getUser().getId(), cursor, size);
+        return ResponseEntity.ok(Response.success(response));
+    }
+
     /*
      * 홈 화면용 유저 및 등산 정보 조회
      */
@@ -1,6 +1,7 @@
 package com.ssafy.ollana.footprint.web.controller;
 
 
+import com.ssafy.ollana.common.util.CursorResponse;
 import com.ssafy.ollana.common.util.PageResponse;
 import com.ssafy.ollana.common.util.Response;
 import com.ssafy.ollana.footprint.persistent.entity.enums.BattleType;
@@ -80,5 +81,18 @@ public class HikingHistoryController {
         return ResponseEntity.ok(Response.success(response));
     }
 
+    /*
+     * 나 vs 친구, 나 vs AI 기록 조회 (커서 기반, 최신순)
+     */
+    @GetMapping("/battle/scroll")
+    public ResponseEntity<Response<CursorResponse<UserVersusOtherResponseDto>>> getHikingBattleRecordsScroll(
+                                                @AuthenticationPrincipal CustomUserDetails userDetails,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "9") int size) {
+
+        CursorResponse<UserVersusOtherResponseDto> response = battleHistoryService.getHikingBattleRecordsScroll(userDetails.getUser().getId(), cursor, size);
+        return ResponseEntity.ok(Response.success(response));
+    }
+
 
 }
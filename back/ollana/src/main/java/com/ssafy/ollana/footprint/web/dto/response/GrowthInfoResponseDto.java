@@ -1,6 +1,7 @@
 package com.ssafy.ollana.footprint.web.dto.response;
 
 import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
+import com.ssafy.ollana.footprint.persistent.entity.UserHikingSummary;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -22,4 +23,13 @@ public class GrowthInfoResponseDto {
                                     .pastTime(pastTime)
                                     .build();
     }
+
+    public static GrowthInfoResponseDto of(UserHikingSummary summary) {
+        return GrowthInfoResponseDto.builder()
+                                    .mountainName(summary.getLatestMountainName())
+                                    .date(summary.getLatestHikedAt().toLocalDate())
+                                    .recentTime(summary.getLatestHikingTime())
+                                    .pastTime(summary.getPreviousSamePathTime())
+                                    .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.ssafy.ollana.footprint.web.dto.response;
 
+import com.ssafy.ollana.footprint.persistent.entity.UserHikingSummary;
 import com.ssafy.ollana.user.entity.Grade;
 import com.ssafy.ollana.user.entity.User;
 import lombok.Builder;
@@ -19,4 +20,12 @@ public class UserInfoResponseDto {
                 .grade(user.getGrade())
                 .build();
     }
+
+    public static UserInfoResponseDto of(UserHikingSummary summary) {
+        return UserInfoResponseDto.builder()
+                .exp(summary.getExp())
+                .gradeCount(summary.getGradeCount())
+                .grade(summary.getGrade())
+                .build();
+    }
 }
@@ -0,0 +1,9 @@
+package com.ssafy.ollana.mountain.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class CrawlerAlreadyRunningException extends BusinessException {
+    public CrawlerAlreadyRunningException() {
+        super("산 이미지 수집이 이미 진행 중입니다.", "M-003");
+    }
+}
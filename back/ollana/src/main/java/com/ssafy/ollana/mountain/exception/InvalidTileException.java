@@ -0,0 +1,9 @@
+package com.ssafy.ollana.mountain.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class InvalidTileException extends BusinessException {
+    public InvalidTileException() {
+        super("잘못된 지도 타일 좌표입니다.", "M-002");
+    }
+}
@@ -11,4 +11,7 @@ public interface MountainCustomRepository {
     // 해당 산이 사용자의 위치를 기준으로 반경 15km 이내에 존재하는지 검증
     boolean isMountainWithin10km(Integer mountainId, double lat, double lng);
 
+    // z/x/y 타일 범위의 산(mountains), 등산로(paths, pathMinZoom 이상) 레이어를 Mapbox Vector Tile로 생성
+    byte[] findVectorTile(int z, int x, int y, int pathMinZoom);
+
 }
@@ -59,4 +59,47 @@ public class MountainCustomRepositoryImpl implements MountainCustomRepository {
         return ((Number) result).intValue() > 0;
     }
 
+    @Override
+    public byte[] findVectorTile(int z, int x, int y, int pathMinZoom) {
+        String sql = """
+            WITH bounds AS (
+                -- 조회 범위는 ST_AsMVTGeom buffer(64/4096)만큼 넓혀 타일 경계에 걸친 아이콘/등산로가 잘리지 않도록 함
+                SELECT ST_TileEnvelope(:z, :x, :y) AS geom_3857,
+                       ST_Transform(ST_TileEnvelope(:z, :x, :y, margin => 64.0 / 4096), 4326) AS geom_4326
+            ),
+            mountains AS (
+                SELECT m.mountain_id AS id,
+                       m.mountain_name AS name,
+                       m.mountain_height AS altitude,
+                       m.level AS level,
+                       ST_AsMVTGeom(ST_Transform(m.geom, 3857), b.geom_3857, 4096, 64, true) AS geom
+                FROM mountain m, bounds b
+                WHERE m.geom && b.geom_4326
+            ),
+            paths AS (
+                SELECT p.path_id AS id,
+                       p.mountain_id AS mountain_id,
+                       p.path_name AS name,
+                       p.path_length AS length,
+                       p.path_time AS time,
+                       p.level AS level,
+                       ST_AsMVTGeom(ST_Transform(p.route, 3857), b.geom_3857, 4096, 64, true) AS geom
+                FROM path p, bounds b
+                WHERE :z >= :pathMinZoom
+                  AND p.route && b.geom_4326
+            )
+            SELECT COALESCE((SELECT ST_AsMVT(mountains.*, 'mountains', 4096, 'geom') FROM mountains WHERE geom IS NOT NULL), ''::bytea)
+                || COALESCE((SELECT ST_AsMVT(paths.*, 'paths', 4096, 'geom') FROM paths WHERE geom IS NOT NULL), ''::bytea)
+        """;
+
+        Object result = em.createNativeQuery(sql)
+                .setParameter("z", z)
+                .setParameter("x", x)
+                .setParameter("y", y)
+                .setParameter("pathMinZoom", pathMinZoom)
+                .getSingleResult();
+
+        return result != null ? (byte[]) result : new byte[0];
+    }
+
 }
@@ -3,5 +3,11 @@ package com.ssafy.ollana.mountain.persistent.repository;
 import com.ssafy.ollana.mountain.persistent.entity.MountainImg;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface MountainImgRepository extends JpaRepository<MountainImg, Integer> {
+
+    // 여러 산의 이미지를 한 번에 조회 (mountain.getMountainImgs()를 산마다 초기화하지 않도록)
+    List<MountainImg> findByMountainIdIn(Collection<Integer> mountainIds);
 }
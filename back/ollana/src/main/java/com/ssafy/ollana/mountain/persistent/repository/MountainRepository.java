@@ -1,6 +1,7 @@
 package com.ssafy.ollana.mountain.persistent.repository;
 
 import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -14,7 +15,14 @@ public interface MountainRepository extends JpaRepository<Mountain, Integer>, Mo
     @Query("SELECT m.mntnCode FROM Mountain m")
     List<String> findAllMntnCode();
 
+    // [산 id, 산 코드] (이미지 수집 시 산 코드별 findByMntnCode 조회를 하지 않도록)
+    @Query("SELECT m.id, m.mntnCode FROM Mountain m")
+    List<Object[]> findAllIdAndMntnCode();
+
     // 산 이름 검색
     List<Mountain> findTop10ByMountainNameContaining(String mountainName);
     List<Mountain> findByMountainNameContaining(String mountainName);
+
+    // keyset 페이지 (id 오름차순, count 쿼리 없음)
+    List<Mountain> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
 }
@@ -2,9 +2,13 @@ package com.ssafy.ollana.mountain.persistent.repository;
 
 import com.ssafy.ollana.mountain.persistent.entity.Path;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
 import java.util.List;
 
 public interface PathRepository extends JpaRepository<Path, Integer> {
 
     List<Path> findByMountainId(Integer mountainId);
+
+    // 여러 산의 등산로를 한 번에 조회 (산마다 조회하지 않도록)
+    List<Path> findByMountainIdIn(Collection<Integer> mountainIds);
 }
@@ -0,0 +1,279 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.common.util.HangulUtils;
+import com.ssafy.ollana.footprint.persistent.repository.FootprintRepository;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.tracking.web.dto.response.MountainAutoCompleteResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 산 이름/지역 자동완성 메모리 인덱스
+ *
+ * 1. trie : 이름, 지역(단어별)의 낱자모 분해 결과 + 초성을 key로 등록 -> 입력 중인 글자("북하", "북한ㅅ"), 초성("ㅂㅎㅅ") 앞부분 일치
+ * 2. n-gram : 이름/지역 글자 1-gram, 2-gram -> 중간 일치("한산")의 후보를 찾고 낱자모 포함 여부로 확인
+ *
+ * - 순위 : 이름 앞부분 > 지역 앞부분 > 이름 중간 > 지역 중간, 같은 순위는 인기(발자취 수) > 이름 길이
+ * - 시작 시 + 산 정보 변경 이벤트 후 전체를 다시 만들어 교체, 인기는 주기적으로 갱신
+ * - 비활성화했거나 아직 만들어지지 않았으면 기존 DB 쿼리 사용
+ */
+@Slf4j
+@Component
+public class MountainAutocompleteIndex {
+
+    private static final int NAME_PREFIX = 0;
+    private static final int LOCATION_PREFIX = 1;
+    private static final int NAME_INFIX = 2;
+    private static final int LOCATION_INFIX = 3;
+
+    private final MountainRepository mountainRepository;
+    private final FootprintRepository footprintRepository;
+    private final boolean enabled;
+
+    private volatile Snapshot snapshot;
+    private volatile Map<Integer, Long> popularity = Map.of();
+
+    public MountainAutocompleteIndex(MountainRepository mountainRepository,
+                                     FootprintRepository footprintRepository,
+                                     @Value("${mountain.autocomplete.enabled:true}") boolean enabled) {
+        this.mountainRepository = mountainRepository;
+        this.footprintRepository = footprintRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+        refreshPopularity();
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(MountainCatalogChangedEvent event) {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            snapshot = Snapshot.of(mountainRepository.findAll());
+            log.info("산 자동완성 인덱스 생성: {}개", snapshot.size());
+        } catch (Exception e) {
+            log.warn("산 자동완성 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mountain.autocomplete.popularity-refresh-interval:600000}",
+               initialDelayString = "${mountain.autocomplete.popularity-refresh-interval:600000}")
+    public void refreshPopularity() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Map<Integer, Long> counts = new HashMap<>();
+            for (Object[] row : footprintRepository.countFootprintsByMountain()) {
+                counts.put(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+            }
+            popularity = counts;
+        } catch (Exception e) {
+            log.warn("산 인기 집계 실패: {}", e.getMessage());
+        }
+    }
+
+    public List<MountainAutoCompleteResponseDto> suggest(String query, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return mountainRepository.findTop10ByMountainNameContaining(query).stream()
+                    .limit(limit)
+                    .map(MountainAutoCompleteResponseDto::from)
+                    .toList();
+        }
+        return current.suggest(query, limit, popularity);
+    }
+
+    private static class TrieNode {
+        final Map<Character, TrieNode> children = new HashMap<>();
+        // 만드는 중에는 산 index -> 순위, 완성 후 배열로 변환
+        Map<Integer, Integer> building = new HashMap<>();
+        int[] entries;
+        int[] ranks;
+
+        void freeze() {
+            entries = new int[building.size()];
+            ranks = new int[building.size()];
+            int k = 0;
+            for (Map.Entry<Integer, Integer> e : building.entrySet()) {
+                entries[k] = e.getKey();
+                ranks[k] = e.getValue();
+                k++;
+            }
+            building = null;
+            for (TrieNode child : children.values()) {
+                child.freeze();
+            }
+        }
+    }
+
+    /*
+     * 만들어진 뒤에는 읽기만 함 (교체 단위)
+     */
+    private static class Snapshot {
+
+        private final Mountain[] mountains;
+        private final String[] names;       // 낱자모 분해
+        private final String[] locations;   // 낱자모 분해
+        private final TrieNode root;
+        private final Map<String, int[]> grams;
+
+        private Snapshot(Mountain[] mountains, String[] names, String[] locations, TrieNode root, Map<String, int[]> grams) {
+            this.mountains = mountains;
+            this.names = names;
+            this.locations = locations;
+            this.root = root;
+            this.grams = grams;
+        }
+
+        static Snapshot of(List<Mountain> list) {
+            int n = list.size();
+            Mountain[] mountains = list.toArray(new Mountain[0]);
+            String[] names = new String[n];
+            String[] locations = new String[n];
+            TrieNode root = new TrieNode();
+            Map<String, List<Integer>> building = new HashMap<>();
+
+            for (int i = 0; i < n; i++) {
+                String name = mountains[i].getMountainName() != null ? mountains[i].getMountainName() : "";
+                String location = mountains[i].getMountainLoc() != null ? mountains[i].getMountainLoc() : "";
+                names[i] = HangulUtils.decompose(name);
+                locations[i] = HangulUtils.decompose(location);
+
+                insert(root, names[i], i, NAME_PREFIX);
+                insert(root, HangulUtils.choseong(name), i, NAME_PREFIX);
+                for (String word : name.trim().split("\\s+")) {
+                    insert(root, HangulUtils.decompose(word), i, NAME_PREFIX);
+                }
+                for (String word : location.trim().split("\\s+")) {
+                    insert(root, HangulUtils.decompose(word), i, LOCATION_PREFIX);
+                    insert(root, HangulUtils.choseong(word), i, LOCATION_PREFIX);
+                }
+
+                addGrams(building, HangulUtils.normalize(name), i);
+                addGrams(building, HangulUtils.normalize(location), i);
+            }
+            root.freeze();
+
+            Map<String, int[]> grams = new HashMap<>(building.size() * 2);
+            building.forEach((gram, entries) -> grams.put(gram, entries.stream().mapToInt(Integer::intValue).toArray()));
+            return new Snapshot(mountains, names, locations, root, grams);
+        }
+
+        private static void insert(TrieNode root, String key, int entry, int rank) {
+            TrieNode node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new TrieNode());
+                node.building.merge(entry, rank, Math::min);
+            }
+        }
+
+        private static void addGrams(Map<String, List<Integer>> building, String text, int entry) {
+            for (int i = 0; i < text.length(); i++) {
+                addGram(building, text.substring(i, i + 1), entry);
+                if (i + 2 <= text.length()) {
+                    addGram(building, text.substring(i, i + 2), entry);
+                }
+            }
+        }
+
+        private static void addGram(Map<String, List<Integer>> building, String gram, int entry) {
+            List<Integer> entries = building.computeIfAbsent(gram, key -> new ArrayList<>());
+            if (entries.isEmpty() || entries.get(entries.size() - 1) != entry) {
+                entries.add(entry);
+            }
+        }
+
+        int size() {
+            return mountains.length;
+        }
+
+        List<MountainAutoCompleteResponseDto> suggest(String query, int limit, Map<Integer, Long> popularity) {
+            String key = HangulUtils.decompose(query);
+            if (key.isEmpty()) {
+                return List.of();
+            }
+
+            Map<Integer, Integer> ranks = new HashMap<>();
+
+            // 1. 앞부분 일치
+            TrieNode node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node != null) {
+                for (int k = 0; k < node.entries.length; k++) {
+                    ranks.put(node.entries[k], node.ranks[k]);
+                }
+            }
+
+            // 2. 중간 일치 - 마지막 글자는 입력 중일 수 있으므로 그 앞까지로 후보를 찾고 낱자모로 확인
+            int[] candidates = infixCandidates(HangulUtils.normalize(query));
+            if (candidates != null) {
+                for (int entry : candidates) {
+                    if (ranks.containsKey(entry)) {
+                        continue;
+                    }
+                    if (names[entry].contains(key)) {
+                        ranks.put(entry, NAME_INFIX);
+                    } else if (locations[entry].contains(key)) {
+                        ranks.put(entry, LOCATION_INFIX);
+                    }
+                }
+            }
+
+            Comparator<Integer> order = Comparator.<Integer>comparingInt(ranks::get)
+                    .thenComparing(entry -> popularity.getOrDefault(mountains[entry].getId(), 0L), Comparator.reverseOrder())
+                    .thenComparingInt(entry -> names[entry].length());
+
+            return ranks.keySet().stream()
+                    .sorted(order)
+                    .limit(limit)
+                    .map(entry -> MountainAutoCompleteResponseDto.from(mountains[entry]))
+                    .toList();
+        }
+
+        private int[] infixCandidates(String normalized) {
+            String stable = normalized.length() >= 2 ? normalized.substring(0, normalized.length() - 1) : normalized;
+            if (stable.length() == 1) {
+                return grams.get(stable);
+            }
+
+            // 2-gram 중 후보가 가장 적은 목록 사용
+            int[] smallest = null;
+            for (int i = 0; i + 2 <= stable.length(); i++) {
+                int[] entries = grams.get(stable.substring(i, i + 2));
+                if (entries == null) {
+                    return null;
+                }
+                if (smallest == null || entries.length < smallest.length) {
+                    smallest = entries;
+                }
+            }
+            return smallest;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.ssafy.ollana.mountain.service;
+
+/*
+ * 산/등산로 정보(위치)가 추가/변경됨 (커밋 후 공간 인덱스, 지도 타일 캐시, 등산로 좌표 캐시를 다시 만들기 위한 신호)
+ */
+public class MountainCatalogChangedEvent {
+}
@@ -0,0 +1,238 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.mountain.web.dto.response.MountainClusterResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 지도용 산 묶음(cluster) 계층
+ *
+ * - web mercator 정규 좌표(0~1)에서 zoom마다 radius(px) 크기 격자로 한 단계 아래 zoom의 묶음을 다시 묶음 (supercluster 방식)
+ *   maxZoom + 1 단계 = 산 1개씩, 0 단계 = 가장 크게 묶인 상태
+ * - 단계마다 묶음 중심 좌표로 STRtree를 만들어 두고, 요청 시 zoom 단계에서 화면 범위 안의 묶음만 반환
+ * - 시작 시 + 산 정보 변경 이벤트 후 전체를 다시 만들어 교체
+ */
+@Slf4j
+@Component
+public class MountainClusterIndex {
+
+    private static final int TILE_EXTENT = 256;
+
+    private final MountainRepository mountainRepository;
+    private final int maxZoom;
+    private final int radius;
+
+    private volatile Hierarchy hierarchy;
+
+    public MountainClusterIndex(MountainRepository mountainRepository,
+                                @Value("${mountain.cluster.max-zoom:14}") int maxZoom,
+                                @Value("${mountain.cluster.radius:60}") int radius) {
+        this.mountainRepository = mountainRepository;
+        this.maxZoom = maxZoom;
+        this.radius = radius;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(MountainCatalogChangedEvent event) {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        try {
+            hierarchy = Hierarchy.build(mountainRepository.findAll(), maxZoom, radius);
+            log.info("산 묶음 계층 생성: {}개, zoom 0~{}", hierarchy.size(), maxZoom);
+        } catch (Exception e) {
+            log.warn("산 묶음 계층 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    /*
+     * 화면 범위 + zoom에 해당하는 산/묶음 목록
+     */
+    public List<MountainClusterResponseDto> getClusters(double minLat, double minLng, double maxLat, double maxLng, int zoom) {
+        Hierarchy current = hierarchy;
+        if (current == null) {
+            rebuild();
+            current = hierarchy;
+            if (current == null) {
+                return List.of();
+            }
+        }
+
+        int level = Math.max(0, Math.min(zoom, maxZoom + 1));
+        return current.query(level, Math.min(minLat, maxLat), Math.min(minLng, maxLng),
+                Math.max(minLat, maxLat), Math.max(minLng, maxLng));
+    }
+
+    private static class Node {
+        final double x;
+        final double y;
+        final int count;
+        final int representative;      // 가장 높은 산 index
+        final Integer expansionZoom;
+
+        Node(double x, double y, int count, int representative, Integer expansionZoom) {
+            this.x = x;
+            this.y = y;
+            this.count = count;
+            this.representative = representative;
+            this.expansionZoom = expansionZoom;
+        }
+    }
+
+    /*
+     * 만들어진 뒤에는 읽기만 함 (교체 단위)
+     */
+    private static class Hierarchy {
+
+        private final int[] ids;
+        private final String[] names;
+        private final double[] altitudes;
+        private final String[] levels;
+        private final STRtree[] trees;
+
+        private Hierarchy(int[] ids, String[] names, double[] altitudes, String[] levels, STRtree[] trees) {
+            this.ids = ids;
+            this.names = names;
+            this.altitudes = altitudes;
+            this.levels = levels;
+            this.trees = trees;
+        }
+
+        @SuppressWarnings("unchecked")
+        static Hierarchy build(List<Mountain> mountains, int maxZoom, int radius) {
+            int n = mountains.size();
+            int[] ids = new int[n];
+            String[] names = new String[n];
+            double[] altitudes = new double[n];
+            String[] levels = new String[n];
+
+            List<Node> leaves = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                Mountain mountain = mountains.get(i);
+                ids[i] = mountain.getId();
+                names[i] = mountain.getMountainName();
+                altitudes[i] = mountain.getMountainHeight();
+                levels[i] = mountain.getLevel() != null ? mountain.getLevel().name() : null;
+                leaves.add(new Node(projectX(mountain.getMountainLongitude()), projectY(mountain.getMountainLatitude()), 1, i, null));
+            }
+
+            List<Node>[] nodes = new List[maxZoom + 2];
+            nodes[maxZoom + 1] = leaves;
+            for (int z = maxZoom; z >= 0; z--) {
+                nodes[z] = merge(nodes[z + 1], (double) radius / (TILE_EXTENT * Math.pow(2, z)), z, altitudes);
+            }
+
+            STRtree[] trees = new STRtree[maxZoom + 2];
+            for (int z = 0; z <= maxZoom + 1; z++) {
+                STRtree tree = new STRtree();
+                for (Node node : nodes[z]) {
+                    double lat = unprojectY(node.y);
+                    double lng = unprojectX(node.x);
+                    tree.insert(new Envelope(lng, lng, lat, lat), node);
+                }
+                tree.build();
+                trees[z] = tree;
+            }
+
+            return new Hierarchy(ids, names, altitudes, levels, trees);
+        }
+
+        // 같은 격자 칸에 들어가는 묶음을 하나로 (중심 = 개수 가중 평균)
+        private static List<Node> merge(List<Node> children, double cellSize, int zoom, double[] altitudes) {
+            Map<Long, List<Node>> cells = new HashMap<>();
+            for (Node child : children) {
+                long cx = (long) Math.floor(child.x / cellSize);
+                long cy = (long) Math.floor(child.y / cellSize);
+                cells.computeIfAbsent((cx << 32) ^ cy, key -> new ArrayList<>()).add(child);
+            }
+
+            List<Node> merged = new ArrayList<>(cells.size());
+            for (List<Node> cell : cells.values()) {
+                if (cell.size() == 1) {
+                    merged.add(cell.get(0));
+                    continue;
+                }
+                double sumX = 0;
+                double sumY = 0;
+                int count = 0;
+                int representative = cell.get(0).representative;
+                for (Node child : cell) {
+                    sumX += child.x * child.count;
+                    sumY += child.y * child.count;
+                    count += child.count;
+                    if (altitudes[child.representative] > altitudes[representative]) {
+                        representative = child.representative;
+                    }
+                }
+                merged.add(new Node(sumX / count, sumY / count, count, representative, zoom + 1));
+            }
+            return merged;
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        List<MountainClusterResponseDto> query(int level, double minLat, double minLng, double maxLat, double maxLng) {
+            List<?> found = trees[level].query(new Envelope(minLng, maxLng, minLat, maxLat));
+            List<MountainClusterResponseDto> result = new ArrayList<>(found.size());
+            for (Object item : found) {
+                Node node = (Node) item;
+                int i = node.representative;
+                result.add(MountainClusterResponseDto.builder()
+                        .cluster(node.count > 1)
+                        .count(node.count)
+                        .latitude(unprojectY(node.y))
+                        .longitude(unprojectX(node.x))
+                        .id(ids[i])
+                        .name(names[i])
+                        .altitude(altitudes[i])
+                        .level(levels[i])
+                        .expansionZoom(node.expansionZoom)
+                        .build());
+            }
+            return result;
+        }
+    }
+
+    private static double projectX(double lng) {
+        return lng / 360 + 0.5;
+    }
+
+    private static double projectY(double lat) {
+        double sin = Math.sin(Math.toRadians(lat));
+        double y = 0.5 - 0.25 * Math.log((1 + sin) / (1 - sin)) / Math.PI;
+        return Math.max(0, Math.min(1, y));
+    }
+
+    private static double unprojectX(double x) {
+        return (x - 0.5) * 360;
+    }
+
+    private static double unprojectY(double y) {
+        double y2 = (180 - y * 360) * Math.PI / 180;
+        return 360 * Math.atan(Math.exp(y2)) / Math.PI - 90;
+    }
+}
@@ -0,0 +1,292 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.mountain.exception.CrawlerAlreadyRunningException;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.mountain.web.dto.response.MountainImageCrawlStatusResponseDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 산림청 산 이미지 API 수집 작업
+ * - 산 코드별 요청을 concurrency개 스레드로 병렬 처리하고, 전체 요청 속도는 rate-per-second 이하로 제한
+ * - 응답은 StAX로 스트리밍 파싱 (본문 전체를 문자열/DOM으로 만들지 않음)
+ * - 산 하나가 끝나면 짧은 트랜잭션에서 기존 이미지 삭제 + batch insert 후 Redis에 완료 표시 (checkpoint)
+ *   → 다시 실행하면 완료된 산은 건너뛰고, 중간에 끊긴 산은 삭제 후 다시 저장하므로 중복이 생기지 않음
+ * - 작업은 한 번에 하나만 실행되며 진행 상황은 status()로 조회
+ */
+@Slf4j
+@Component
+public class MountainImageCrawler {
+
+    private static final String DONE_KEY = "mountain:image-crawl:done";
+    private static final String IMAGE_URL_PREFIX = "www.forest.go.kr/images/data/down/mountain/";
+
+    private static final String DELETE_SQL = "DELETE FROM mountain_img WHERE mountain_id = ?";
+    private static final String INSERT_SQL = "INSERT INTO mountain_img (mountain_id, mountain_img_url) VALUES (?, ?)";
+
+    private final MountainRepository mountainRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final HttpClient httpClient;
+    private final XMLInputFactory xmlInputFactory;
+    private final ExecutorService jobExecutor;
+
+    private final String baseUrl;
+    private final String serviceKey;
+    private final Duration requestTimeout;
+    private final int concurrency;
+    private final long requestIntervalNanos;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong nextRequestAt = new AtomicLong();
+    private volatile Progress progress;
+
+    public MountainImageCrawler(MountainRepository mountainRepository,
+                                RedisTemplate<String, String> redisTemplate,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${mountain.image-crawler.base-url:https://apis.data.go.kr/1400000/service/cultureInfoService2/mntInfoImgOpenAPI2}") String baseUrl,
+                                @Value("${api.service-key}") String serviceKey,
+                                @Value("${mountain.image-crawler.connect-timeout:3000}") long connectTimeout,
+                                @Value("${mountain.image-crawler.read-timeout:10000}") long readTimeout,
+                                @Value("${mountain.image-crawler.concurrency:8}") int concurrency,
+                                @Value("${mountain.image-crawler.rate-per-second:20}") int ratePerSecond) {
+        this.mountainRepository = mountainRepository;
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .build();
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mountain-image-crawler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.baseUrl = baseUrl;
+        this.serviceKey = serviceKey;
+        this.requestTimeout = Duration.ofMillis(readTimeout);
+        this.concurrency = concurrency;
+        this.requestIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    /*
+     * 수집 시작 (이미 실행 중이면 예외)
+     * reset = true 이면 checkpoint를 지우고 전체 산을 다시 수집
+     */
+    public MountainImageCrawlStatusResponseDto start(boolean reset) {
+        if (!running.compareAndSet(false, true)) {
+            throw new CrawlerAlreadyRunningException();
+        }
+
+        try {
+            if (reset) {
+                redisTemplate.delete(DONE_KEY);
+            }
+            List<Object[]> mountains = mountainRepository.findAllIdAndMntnCode();
+            progress = new Progress(mountains.size());
+            jobExecutor.execute(() -> run(mountains));
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return status();
+    }
+
+    public MountainImageCrawlStatusResponseDto status() {
+        Progress current = progress;
+        if (current == null) {
+            return MountainImageCrawlStatusResponseDto.builder().build();
+        }
+        return current.toResponse(running.get());
+    }
+
+    private void run(List<Object[]> mountains) {
+        Progress current = progress;
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            Set<String> done = redisTemplate.opsForSet().members(DONE_KEY);
+            for (Object[] row : mountains) {
+                Integer mountainId = (Integer) row[0];
+                String mntnCode = (String) row[1];
+                if (done != null && done.contains(mntnCode)) {
+                    current.skipped.incrementAndGet();
+                    continue;
+                }
+                workers.execute(() -> crawl(mountainId, mntnCode, current));
+            }
+            workers.shutdown();
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            workers.shutdownNow();
+            log.error("산 이미지 수집 중단: {}", e.getMessage());
+        } finally {
+            current.finishedAt = LocalDateTime.now();
+            running.set(false);
+            log.info("산 이미지 수집 종료: total={}, completed={}, skipped={}, failed={}, images={}",
+                    current.total, current.completed.get(), current.skipped.get(), current.failed.get(), current.images.get());
+        }
+    }
+
+    private void crawl(Integer mountainId, String mntnCode, Progress current) {
+        try {
+            List<String> images = fetchImages(mntnCode);
+            // 빈 응답은 일시적인 오류일 수 있으므로 기존 이미지를 지우지 않고 실패로 남김 (다음 실행에서 재시도)
+            if (images.isEmpty()) {
+                current.failed.incrementAndGet();
+                log.warn("산 이미지 응답이 비어 있음: mntnCode={}", mntnCode);
+                return;
+            }
+
+            // 산 하나 단위의 짧은 트랜잭션 (커넥션은 저장하는 동안만 사용)
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(DELETE_SQL, mountainId);
+                jdbcTemplate.batchUpdate(INSERT_SQL, images, images.size(), (statement, image) -> {
+                    statement.setInt(1, mountainId);
+                    statement.setString(2, image);
+                });
+            });
+            redisTemplate.opsForSet().add(DONE_KEY, mntnCode);
+
+            current.completed.incrementAndGet();
+            current.images.addAndGet(images.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            current.failed.incrementAndGet();
+        } catch (Exception e) {
+            current.failed.incrementAndGet();
+            log.error("산 이미지 저장 중 오류 발생: mntnCode={}, error={}", mntnCode, e.getMessage());
+        }
+    }
+
+    private List<String> fetchImages(String mntnCode) throws IOException, InterruptedException, XMLStreamException {
+        acquireRequestSlot();
+
+        URI uri = URI.create(baseUrl
+                + "?mntiListNo=" + URLEncoder.encode(mntnCode, StandardCharsets.UTF_8)
+                + "&ServiceKey=" + serviceKey);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            return parseImages(body);
+        }
+    }
+
+    /*
+     * <item><imgfilename>...</imgfilename></item> 만 골라 읽음
+     * - 오류 응답(<errMsg>, <returnAuthMsg>)이면 예외 (checkpoint를 남기지 않아 다음 실행에서 재시도)
+     */
+    private List<String> parseImages(InputStream body) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(body, StandardCharsets.UTF_8.name());
+        try {
+            List<String> images = new ArrayList<>();
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                String name = reader.getLocalName();
+                if ("imgfilename".equals(name)) {
+                    String filename = reader.getElementText().trim();
+                    if (!filename.isEmpty()) {
+                        images.add(IMAGE_URL_PREFIX + filename);
+                    }
+                } else if ("errMsg".equals(name) || "returnAuthMsg".equals(name)) {
+                    throw new XMLStreamException("API 오류: " + reader.getElementText());
+                }
+            }
+            return images;
+        } finally {
+            reader.close();
+        }
+    }
+
+    // 요청 시작 시각을 requestIntervalNanos 간격으로 하나씩 배정 (전체 스레드 합산 초당 요청 수 제한)
+    private void acquireRequestSlot() throws InterruptedException {
+        long now = System.nanoTime();
+        long slot = nextRequestAt.getAndUpdate(next -> Math.max(next, now) + requestIntervalNanos);
+        long wait = Math.max(slot, now) - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    private static class Progress {
+
+        private final int total;
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger images = new AtomicInteger();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime finishedAt;
+
+        private Progress(int total) {
+            this.total = total;
+        }
+
+        private MountainImageCrawlStatusResponseDto toResponse(boolean running) {
+            return MountainImageCrawlStatusResponseDto.builder()
+                    .running(running)
+                    .total(total)
+                    .completed(completed.get())
+                    .skipped(skipped.get())
+                    .failed(failed.get())
+                    .images(images.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
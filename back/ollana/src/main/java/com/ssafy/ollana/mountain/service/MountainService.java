@@ -1,16 +1,20 @@
 package com.ssafy.ollana.mountain.service;
 
+import com.ssafy.ollana.common.util.CursorResponse;
 import com.ssafy.ollana.common.util.PageResponse;
+import com.ssafy.ollana.mountain.web.dto.response.MountainClusterResponseDto;
 import com.ssafy.ollana.mountain.web.dto.response.MountainDetailResponseDto;
 import com.ssafy.ollana.mountain.web.dto.response.MountainListResponseDto;
 import com.ssafy.ollana.mountain.web.dto.response.MountainMapResponseDto;
+import com.ssafy.ollana.tracking.web.dto.request.RouteOptionRequestDto;
 
 import java.util.List;
 
 public interface MountainService {
-    void saveMountainImg();
     List<MountainMapResponseDto> getMountains();
+    List<MountainClusterResponseDto> getMountainClusters(double minLat, double minLng, double maxLat, double maxLng, int zoom);
     PageResponse<MountainListResponseDto> getMountainList(int page, int size);
-    MountainDetailResponseDto getMountainDetail(int mountainId);
+    CursorResponse<MountainListResponseDto> getMountainScroll(String cursor, int size);
+    MountainDetailResponseDto getMountainDetail(int mountainId, RouteOptionRequestDto option);
     List<MountainListResponseDto> searchMountain(String mountainName);
 }
@@ -0,0 +1,185 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.tracking.service.TrackingUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+ * 산 위치(Mountain.geom) 메모리 공간 인덱스
+ * - 가장 가까운 산(15km 이내), 특정 산이 반경 안에 있는지 확인할 때 PostGIS 조회 없이 처리
+ * - 반경을 위도/경도 범위로 바꿔 STRtree에서 후보를 찾고, 후보만 실제 거리(haversine)로 비교
+ * - 시작 시 + 산 정보 변경 이벤트 + 주기적으로 전체를 다시 만들어 교체 (조회 중인 요청은 이전 인덱스를 그대로 사용)
+ * - 비활성화했거나 아직 만들어지지 않았으면 기존 DB 쿼리 사용
+ */
+@Slf4j
+@Component
+public class MountainSpatialIndex {
+
+    // MountainCustomRepositoryImpl 쿼리와 같은 반경
+    public static final double NEARBY_RADIUS = 15_000d;
+
+    private static final double METERS_PER_DEGREE = 111_320d;
+
+    private final MountainRepository mountainRepository;
+    private final boolean enabled;
+
+    private volatile Snapshot snapshot;
+
+    public MountainSpatialIndex(MountainRepository mountainRepository,
+                                @Value("${mountain.spatial-index.enabled:true}") boolean enabled) {
+        this.mountainRepository = mountainRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(MountainCatalogChangedEvent event) {
+        rebuild();
+    }
+
+    // 이벤트 없이 DB에서 직접 바뀐 경우 대비
+    @Scheduled(fixedDelayString = "${mountain.spatial-index.refresh-interval:3600000}",
+               initialDelayString = "${mountain.spatial-index.refresh-interval:3600000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Mountain> mountains = mountainRepository.findAll();
+            snapshot = Snapshot.of(mountains);
+            log.info("산 공간 인덱스 생성: {}개", snapshot.size());
+        } catch (Exception e) {
+            // 이전 인덱스(또는 DB 쿼리)로 계속 처리
+            log.warn("산 공간 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    /*
+     * 사용자 위치 기준 반경 15km 이내 가장 가까운 산
+     */
+    public Optional<Mountain> findNearestMountain(double lat, double lng) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return mountainRepository.findNearestMountain(lat, lng);
+        }
+
+        Integer mountainId = current.nearest(lat, lng, NEARBY_RADIUS);
+        return mountainId == null ? Optional.empty() : mountainRepository.findById(mountainId);
+    }
+
+    /*
+     * 산이 사용자 위치 기준 반경 15km 이내에 있는지
+     */
+    public boolean isMountainNearby(Integer mountainId, double lat, double lng) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return mountainRepository.isMountainWithin10km(mountainId, lat, lng);
+        }
+        return current.isWithin(mountainId, lat, lng, NEARBY_RADIUS);
+    }
+
+    /*
+     * 만들어진 뒤에는 읽기만 하는 인덱스 (교체 단위)
+     * - STRtree item = 산 index, 좌표는 배열로 따로 보관
+     */
+    private static class Snapshot {
+
+        private final int[] ids;
+        private final double[] latitude;
+        private final double[] longitude;
+        private final Map<Integer, Integer> indexById;
+        private final STRtree tree;
+
+        private Snapshot(int[] ids, double[] latitude, double[] longitude, Map<Integer, Integer> indexById, STRtree tree) {
+            this.ids = ids;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.indexById = indexById;
+            this.tree = tree;
+        }
+
+        static Snapshot of(List<Mountain> mountains) {
+            int n = mountains.size();
+            int[] ids = new int[n];
+            double[] latitude = new double[n];
+            double[] longitude = new double[n];
+            Map<Integer, Integer> indexById = new HashMap<>(n * 2);
+            STRtree tree = new STRtree();
+
+            int size = 0;
+            for (Mountain mountain : mountains) {
+                Point geom = mountain.getGeom();
+                if (geom == null || geom.isEmpty()) {
+                    continue;
+                }
+                ids[size] = mountain.getId();
+                latitude[size] = geom.getY();
+                longitude[size] = geom.getX();
+                indexById.put(mountain.getId(), size);
+                tree.insert(new Envelope(geom.getX(), geom.getX(), geom.getY(), geom.getY()), size);
+                size++;
+            }
+            // 이후 insert 불가, query는 여러 스레드에서 동시에 호출 가능
+            tree.build();
+
+            return new Snapshot(ids, latitude, longitude, indexById, tree);
+        }
+
+        int size() {
+            return indexById.size();
+        }
+
+        Integer nearest(double lat, double lng, double radius) {
+            int best = -1;
+            double bestDistance = radius;
+            for (Object item : tree.query(searchEnvelope(lat, lng, radius))) {
+                int i = (Integer) item;
+                double distance = TrackingUtils.calculateDistance(lat, lng, latitude[i], longitude[i]);
+                if (distance <= bestDistance) {
+                    best = i;
+                    bestDistance = distance;
+                }
+            }
+            return best == -1 ? null : ids[best];
+        }
+
+        boolean isWithin(Integer mountainId, double lat, double lng, double radius) {
+            Integer i = indexById.get(mountainId);
+            return i != null && TrackingUtils.calculateDistance(lat, lng, latitude[i], longitude[i]) <= radius;
+        }
+
+        // 반경(m)을 덮는 위도/경도 범위
+        private static Envelope searchEnvelope(double lat, double lng, double radius) {
+            double dLat = radius / METERS_PER_DEGREE;
+            double cos = Math.max(Math.cos(Math.toRadians(lat)), 1e-6);
+            double dLng = Math.min(radius / (METERS_PER_DEGREE * cos), 180);
+            return new Envelope(lng - dLng, lng + dLng, lat - dLat, lat + dLat);
+        }
+    }
+}
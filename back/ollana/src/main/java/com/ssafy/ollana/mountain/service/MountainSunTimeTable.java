@@ -0,0 +1,145 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.common.util.SolarCalculator;
+import com.ssafy.ollana.common.util.SolarCalculator.SunTimes;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 산별 일출/일몰 시각 표
+ * - 오늘부터 days일치를 산 위도/경도/고도로 미리 계산해 두고 상세 조회에서 외부 API 없이 사용
+ * - 시작 시 + 산 정보 변경 이벤트 + 매일 0시(한국 시간)에 전체를 다시 만들어 교체
+ * - 표에 없는 산/날짜는 그 자리에서 계산 (계산 비용이 작아 별도 캐시 없음)
+ */
+@Slf4j
+@Component
+public class MountainSunTimeTable {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    // 해가 뜨거나 지지 않는 날
+    private static final short NONE = -1;
+
+    private final MountainRepository mountainRepository;
+    private final int days;
+
+    private volatile Snapshot snapshot;
+
+    public MountainSunTimeTable(MountainRepository mountainRepository,
+                                @Value("${mountain.sun-table.days:7}") int days) {
+        this.mountainRepository = mountainRepository;
+        this.days = days;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(MountainCatalogChangedEvent event) {
+        rebuild();
+    }
+
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    public void refresh() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        try {
+            List<Mountain> mountains = mountainRepository.findAll();
+            snapshot = Snapshot.of(mountains, LocalDate.now(ZONE), days);
+            log.info("산 일출/일몰 표 생성: {}개, {}일", mountains.size(), days);
+        } catch (Exception e) {
+            // 이전 표(또는 즉시 계산)로 계속 처리
+            log.warn("산 일출/일몰 표 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    public SunTimes get(Mountain mountain) {
+        return get(mountain, LocalDate.now(ZONE));
+    }
+
+    public SunTimes get(Mountain mountain, LocalDate date) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            SunTimes sunTimes = current.get(mountain.getId(), date);
+            if (sunTimes != null) {
+                return sunTimes;
+            }
+        }
+        return calculate(mountain, date);
+    }
+
+    private static SunTimes calculate(Mountain mountain, LocalDate date) {
+        return SolarCalculator.calculate(date, mountain.getMountainLatitude(), mountain.getMountainLongitude(),
+                mountain.getMountainHeight(), ZONE);
+    }
+
+    /*
+     * 만들어진 뒤에는 읽기만 하는 표 (교체 단위)
+     * - 산마다 [일출, 일몰, 일출, 일몰, ...] 순서로 하루 분(minute of day) 저장
+     */
+    private static class Snapshot {
+
+        private final LocalDate startDate;
+        private final int days;
+        private final Map<Integer, short[]> minutesById;
+
+        private Snapshot(LocalDate startDate, int days, Map<Integer, short[]> minutesById) {
+            this.startDate = startDate;
+            this.days = days;
+            this.minutesById = minutesById;
+        }
+
+        static Snapshot of(List<Mountain> mountains, LocalDate startDate, int days) {
+            Map<Integer, short[]> minutesById = new HashMap<>(mountains.size() * 2);
+            for (Mountain mountain : mountains) {
+                short[] minutes = new short[days * 2];
+                for (int d = 0; d < days; d++) {
+                    SunTimes sunTimes = calculate(mountain, startDate.plusDays(d));
+                    minutes[d * 2] = toMinutes(sunTimes.getSunrise());
+                    minutes[d * 2 + 1] = toMinutes(sunTimes.getSunset());
+                }
+                minutesById.put(mountain.getId(), minutes);
+            }
+            return new Snapshot(startDate, days, minutesById);
+        }
+
+        // 표 범위 밖이면 null
+        SunTimes get(Integer mountainId, LocalDate date) {
+            short[] minutes = minutesById.get(mountainId);
+            long d = date.toEpochDay() - startDate.toEpochDay();
+            if (minutes == null || d < 0 || d >= days) {
+                return null;
+            }
+            return SolarCalculator.SunTimes.of(toTime(minutes[(int) d * 2]), toTime(minutes[(int) d * 2 + 1]));
+        }
+
+        private static short toMinutes(LocalTime time) {
+            return time == null ? NONE : (short) (time.getHour() * 60 + time.getMinute());
+        }
+
+        private static LocalTime toTime(short minutes) {
+            return minutes == NONE ? null : LocalTime.of(minutes / 60, minutes % 60);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.common.util.LruCache;
+import com.ssafy.ollana.mountain.exception.InvalidTileException;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 지도 벡터 타일(Mapbox Vector Tile) 조회
+ * - PostGIS ST_AsMVT로 만든 타일을 z/x/y 기준 LRU에 보관
+ * - 산/등산로가 바뀌면(MountainCatalogChangedEvent) 전체 비움
+ * - 비우는 도중 만들어진 타일이 다시 들어가지 않도록 세대(generation)가 같을 때만 저장
+ */
+@Slf4j
+@Service
+public class MountainTileService {
+
+    private static final int MAX_ZOOM = 22;
+
+    private final MountainRepository mountainRepository;
+    private final LruCache<Long, byte[]> tileCache;
+    private final int pathMinZoom;
+    private final AtomicLong generation = new AtomicLong();
+
+    public MountainTileService(MountainRepository mountainRepository,
+                               @Value("${mountain.tile.cache-size:5000}") int cacheSize,
+                               @Value("${mountain.tile.path-min-zoom:11}") int pathMinZoom) {
+        this.mountainRepository = mountainRepository;
+        this.tileCache = new LruCache<>(cacheSize);
+        this.pathMinZoom = pathMinZoom;
+    }
+
+    @Transactional(readOnly = true)
+    public byte[] getTile(int z, int x, int y) {
+        validate(z, x, y);
+
+        long key = key(z, x, y);
+        byte[] tile = tileCache.get(key);
+        if (tile != null) {
+            return tile;
+        }
+
+        long current = generation.get();
+        tile = mountainRepository.findVectorTile(z, x, y, pathMinZoom);
+        if (generation.get() == current) {
+            tileCache.put(key, tile);
+        }
+        return tile;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(MountainCatalogChangedEvent event) {
+        generation.incrementAndGet();
+        tileCache.clear();
+        log.info("지도 타일 캐시 초기화");
+    }
+
+    private void validate(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM) {
+            throw new InvalidTileException();
+        }
+        int max = 1 << z;
+        if (x < 0 || x >= max || y < 0 || y >= max) {
+            throw new InvalidTileException();
+        }
+    }
+
+    private static long key(int z, int x, int y) {
+        return ((long) z << 48) | ((long) x << 24) | y;
+    }
+}
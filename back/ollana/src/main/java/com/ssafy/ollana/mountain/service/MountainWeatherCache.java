@@ -0,0 +1,217 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.common.util.LruCache;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.mountain.web.dto.MountainWeatherDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 산 날씨 캐시
+ * - 위도/경도를 cell-size(도) 격자로 반올림한 칸 단위로 저장 (가까운 산끼리 같은 예보를 공유)
+ * - ttl 이내 : 캐시 값 반환
+ * - ttl ~ max-stale : 이전 값을 바로 반환하고 백그라운드에서 갱신 (stale-while-revalidate)
+ * - 없거나 max-stale 초과 : 갱신을 wait-timeout 까지만 기다리고, 실패/초과 시 이전 값(없으면 null) 반환
+ * - 같은 칸의 갱신은 동시에 하나만 실행되고 나머지 요청은 그 결과를 함께 기다림 (single-flight)
+ * - 상세 조회수(Redis ZSET) 상위 산은 주기적으로 미리 갱신
+ */
+@Slf4j
+@Component
+public class MountainWeatherCache {
+
+    private static final String VIEW_KEY = "mountain:views";
+
+    private final OpenWeatherClient openWeatherClient;
+    private final MountainRepository mountainRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final LruCache<Long, Entry> cache;
+    private final ConcurrentHashMap<Long, CompletableFuture<MountainWeatherDto>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor;
+
+    private final double cellSize;
+    private final long ttl;
+    private final long maxStale;
+    private final long waitTimeout;
+    private final int warmUpSize;
+
+    public MountainWeatherCache(OpenWeatherClient openWeatherClient,
+                                MountainRepository mountainRepository,
+                                RedisTemplate<String, String> redisTemplate,
+                                @Value("${mountain.weather.cache-size:2000}") int cacheSize,
+                                @Value("${mountain.weather.cell-size:0.05}") double cellSize,
+                                @Value("${mountain.weather.ttl:3600000}") long ttl,
+                                @Value("${mountain.weather.max-stale:21600000}") long maxStale,
+                                @Value("${mountain.weather.wait-timeout:1500}") long waitTimeout,
+                                @Value("${mountain.weather.refresh-threads:4}") int refreshThreads,
+                                @Value("${mountain.weather.warm-up-size:50}") int warmUpSize) {
+        this.openWeatherClient = openWeatherClient;
+        this.mountainRepository = mountainRepository;
+        this.redisTemplate = redisTemplate;
+        this.cache = new LruCache<>(cacheSize);
+        this.cellSize = cellSize;
+        this.ttl = ttl;
+        this.maxStale = maxStale;
+        this.waitTimeout = waitTimeout;
+        this.warmUpSize = warmUpSize;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.refreshExecutor = Executors.newFixedThreadPool(refreshThreads, runnable -> {
+            Thread thread = new Thread(runnable, "weather-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    public MountainWeatherDto get(Mountain mountain) {
+        Cell cell = toCell(mountain.getMountainLatitude(), mountain.getMountainLongitude());
+        Entry entry = cache.get(cell.key);
+        long age = entry != null ? System.currentTimeMillis() - entry.fetchedAt : Long.MAX_VALUE;
+
+        if (age < ttl) {
+            return entry.weather;
+        }
+        if (age < maxStale) {
+            refresh(cell);
+            return entry.weather;
+        }
+
+        MountainWeatherDto fallback = entry != null ? entry.weather : null;
+        try {
+            return refresh(cell).get(waitTimeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 갱신은 계속 진행되어 다음 요청부터 캐시 값 사용
+            log.warn("날씨 조회 대기 시간 초과: cell={}", cell);
+            return fallback;
+        } catch (ExecutionException e) {
+            return fallback;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback;
+        }
+    }
+
+    /*
+     * 상세 조회수 기록 (사전 갱신 대상 선정용)
+     * - Redis 장애가 상세 조회를 막지 않도록 실패는 로그만 남김
+     */
+    public void recordView(Integer mountainId) {
+        try {
+            redisTemplate.opsForZSet().incrementScore(VIEW_KEY, mountainId.toString(), 1);
+        } catch (Exception e) {
+            log.warn("산 조회수 기록 실패: mountainId={}, error={}", mountainId, e.getMessage());
+        }
+    }
+
+    /*
+     * 조회수 상위 산 중 ttl의 절반이 지난 칸을 미리 갱신
+     * - warm-up 주기를 ttl/2 보다 짧게 두면 인기 산은 만료 전에 항상 갱신됨
+     */
+    @Scheduled(fixedDelayString = "${mountain.weather.warm-up-interval:600000}",
+               initialDelayString = "${mountain.weather.warm-up-interval:600000}")
+    public void warmUp() {
+        Set<String> top = redisTemplate.opsForZSet().reverseRange(VIEW_KEY, 0, warmUpSize - 1);
+        if (top == null || top.isEmpty()) {
+            return;
+        }
+
+        List<Integer> mountainIds = top.stream().map(Integer::valueOf).toList();
+        long now = System.currentTimeMillis();
+        int refreshed = 0;
+        for (Mountain mountain : mountainRepository.findAllById(mountainIds)) {
+            Cell cell = toCell(mountain.getMountainLatitude(), mountain.getMountainLongitude());
+            Entry entry = cache.get(cell.key);
+            if (entry == null || now - entry.fetchedAt >= ttl / 2) {
+                refresh(cell);
+                refreshed++;
+            }
+        }
+        log.debug("날씨 사전 갱신: {}개 칸", refreshed);
+    }
+
+    // 같은 칸에 진행 중인 갱신이 있으면 그 future를 공유
+    private CompletableFuture<MountainWeatherDto> refresh(Cell cell) {
+        CompletableFuture<MountainWeatherDto> created = new CompletableFuture<>();
+        CompletableFuture<MountainWeatherDto> running = inFlight.putIfAbsent(cell.key, created);
+        if (running != null) {
+            return running;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    MountainWeatherDto weather = openWeatherClient.fetch(cell.latitude, cell.longitude);
+                    cache.put(cell.key, new Entry(weather, System.currentTimeMillis()));
+                    created.complete(weather);
+                } catch (Exception e) {
+                    log.warn("날씨 갱신 실패: cell={}, error={}", cell, e.getMessage());
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(cell.key, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(cell.key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    // 격자 칸 중심 좌표로 조회하므로 같은 칸은 항상 같은 예보를 받음
+    private Cell toCell(double latitude, double longitude) {
+        long row = Math.round(latitude / cellSize);
+        long col = Math.round(longitude / cellSize);
+        return new Cell((row << 32) | (col & 0xffffffffL), row * cellSize, col * cellSize);
+    }
+
+    private static class Cell {
+
+        private final long key;
+        private final double latitude;
+        private final double longitude;
+
+        private Cell(long key, double latitude, double longitude) {
+            this.key = key;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+
+        @Override
+        public String toString() {
+            return latitude + "," + longitude;
+        }
+    }
+
+    private static class Entry {
+
+        private final MountainWeatherDto weather;
+        private final long fetchedAt;
+
+        private Entry(MountainWeatherDto weather, long fetchedAt) {
+            this.weather = weather;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
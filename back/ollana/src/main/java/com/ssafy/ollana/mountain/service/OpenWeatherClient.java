@@ -0,0 +1,54 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.mountain.web.dto.MountainWeatherDto;
+import com.ssafy.ollana.mountain.web.dto.OpenWeatherDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+/*
+ * OpenWeather One Call(3.0) 일별 예보 조회
+ * - base-url, 연결/응답 timeout은 설정으로 지정 (로컬 스텁 서버로 교체 가능)
+ */
+@Component
+public class OpenWeatherClient {
+
+    private final RestClient restClient;
+    private final String apiKey;
+
+    public OpenWeatherClient(@Value("${openweather.api.base-url:https://api.openweathermap.org}") String baseUrl,
+                             @Value("${openweather.api.connect-timeout:1000}") long connectTimeout,
+                             @Value("${openweather.api.read-timeout:2000}") long readTimeout,
+                             @Value("${openweather.api.key}") String apiKey) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeout));
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeout));
+
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+        this.apiKey = apiKey;
+    }
+
+    public MountainWeatherDto fetch(double latitude, double longitude) {
+        OpenWeatherDto response = restClient
+                .get()
+                .uri("/data/3.0/onecall?lat={lat}&lon={lon}&exclude={exclude}&appid={appid}&units={units}",
+                        latitude,
+                        longitude,
+                        "current,minutely,hourly,alerts",
+                        apiKey,
+                        "metric")
+                .retrieve()
+                .body(OpenWeatherDto.class);
+
+        if (response == null) {
+            throw new IllegalStateException("OpenWeather 응답이 비어 있음");
+        }
+        return response.toMountainWeatherDto();
+    }
+}
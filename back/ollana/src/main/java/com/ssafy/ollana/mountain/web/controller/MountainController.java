@@ -1,12 +1,19 @@
 package com.ssafy.ollana.mountain.web.controller;
 
+import com.ssafy.ollana.common.util.CursorResponse;
 import com.ssafy.ollana.common.util.PageResponse;
 import com.ssafy.ollana.common.util.Response;
+import com.ssafy.ollana.mountain.service.MountainImageCrawler;
 import com.ssafy.ollana.mountain.service.MountainService;
+import com.ssafy.ollana.mountain.service.MountainTileService;
+import com.ssafy.ollana.mountain.web.dto.response.MountainClusterResponseDto;
 import com.ssafy.ollana.mountain.web.dto.response.MountainDetailResponseDto;
+import com.ssafy.ollana.mountain.web.dto.response.MountainImageCrawlStatusResponseDto;
 import com.ssafy.ollana.mountain.web.dto.response.MountainListResponseDto;
 import com.ssafy.ollana.mountain.web.dto.response.MountainMapResponseDto;
+import com.ssafy.ollana.tracking.web.dto.request.RouteOptionRequestDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,6 +25,8 @@ import java.util.List;
 public class MountainController {
 
     private final MountainService mountainService;
+    private final MountainTileService mountainTileService;
+    private final MountainImageCrawler mountainImageCrawler;
 
     @GetMapping("/map")
     public ResponseEntity<Response<List<MountainMapResponseDto>>> getMountains() {
@@ -25,6 +34,33 @@ public class MountainController {
         return ResponseEntity.ok(Response.success(response));
     }
 
+    /*
+     * 화면 범위 안의 산 (zoom에 따라 묶음으로 반환)
+     */
+    @GetMapping("/map/clusters")
+    public ResponseEntity<Response<List<MountainClusterResponseDto>>> getMountainClusters(@RequestParam double minLat,
+                                                                                        @RequestParam double minLng,
+                                                                                        @RequestParam double maxLat,
+                                                                                        @RequestParam double maxLng,
+                                                                                        @RequestParam int zoom) {
+        List<MountainClusterResponseDto> response = mountainService.getMountainClusters(minLat, minLng, maxLat, maxLng, zoom);
+        return ResponseEntity.ok(Response.success(response));
+    }
+
+    /*
+     * 지도 벡터 타일 (mountains, paths 레이어)
+     */
+    @GetMapping(value = "/tiles/{z}/{x}/{y}.mvt", produces = "application/vnd.mapbox-vector-tile")
+    public ResponseEntity<byte[]> getTile(@PathVariable int z, @PathVariable int x, @PathVariable int y) {
+        byte[] tile = mountainTileService.getTile(z, x, y);
+        if (tile.length == 0) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(tile);
+    }
+
     @GetMapping("/list")
     public ResponseEntity<Response<?>> getMountainList(
             @RequestParam(value = "search", required = false) String mountainName,
@@ -42,15 +78,41 @@ public class MountainController {
         }
     }
 
+    /*
+     * 산 전체 리스트 (커서 기반, 깊이 내려가도 첫 페이지와 같은 비용)
+     */
+    @GetMapping("/list/scroll")
+    public ResponseEntity<Response<CursorResponse<MountainListResponseDto>>> getMountainScroll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorResponse<MountainListResponseDto> response = mountainService.getMountainScroll(cursor, size);
+        return ResponseEntity.ok(Response.success(response));
+    }
+
     @GetMapping("/detail/{mountain_id}")
-    public ResponseEntity<Response<MountainDetailResponseDto>> getMountainDetail(@PathVariable("mountain_id") int mountainId) {
-        MountainDetailResponseDto response = mountainService.getMountainDetail(mountainId);
+    public ResponseEntity<Response<MountainDetailResponseDto>> getMountainDetail(@PathVariable("mountain_id") int mountainId,
+                                                                                 @ModelAttribute RouteOptionRequestDto option) {
+        MountainDetailResponseDto response = mountainService.getMountainDetail(mountainId, option);
         return ResponseEntity.ok(Response.success(response));
     }
 
-    @GetMapping("/save-image")
-    public ResponseEntity<Response<Void>> saveMountainImg() {
-        mountainService.saveMountainImg();
-        return ResponseEntity.ok(Response.success());
+    /*
+     * 산 이미지 수집 시작 (백그라운드 실행, 완료된 산은 건너뜀 / reset=true면 처음부터)
+     * 기존 이미지를 다시 쓰는 작업이므로 인증 필요 (SecurityConfig)
+     */
+    @PostMapping("/save-image")
+    public ResponseEntity<Response<MountainImageCrawlStatusResponseDto>> saveMountainImg(@RequestParam(defaultValue = "false") boolean reset) {
+        MountainImageCrawlStatusResponseDto response = mountainImageCrawler.start(reset);
+        return ResponseEntity.accepted().body(Response.success(response));
+    }
+
+    /*
+     * 산 이미지 수집 진행 상황
+     */
+    @GetMapping("/save-image/status")
+    public ResponseEntity<Response<MountainImageCrawlStatusResponseDto>> getMountainImgStatus() {
+        MountainImageCrawlStatusResponseDto response = mountainImageCrawler.status();
+        return ResponseEntity.ok(Response.success(response));
     }
 }
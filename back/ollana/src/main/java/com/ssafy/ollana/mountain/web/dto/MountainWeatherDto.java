@@ -1,8 +1,11 @@
 package com.ssafy.ollana.mountain.web.dto;
 
+import com.ssafy.ollana.common.util.SolarCalculator.SunTimes;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Getter
@@ -12,6 +15,19 @@ public class MountainWeatherDto {
     private String sunset;              // 일몰 시간
     private List<DailyWeatherDto> dailyWeather;
 
+    // 계산한 일출/일몰 + 날씨 API 예보 (예보가 없으면 빈 리스트)
+    public static MountainWeatherDto of(SunTimes sunTimes, MountainWeatherDto forecast) {
+        return MountainWeatherDto.builder()
+                .sunrise(format(sunTimes.getSunrise()))
+                .sunset(format(sunTimes.getSunset()))
+                .dailyWeather(forecast != null ? forecast.getDailyWeather() : List.of())
+                .build();
+    }
+
+    private static String format(LocalTime time) {
+        return time != null ? time.format(DateTimeFormatter.ofPattern("HH:mm")) : null;
+    }
+
     @Getter
     @Builder
     public static class DailyWeatherDto {
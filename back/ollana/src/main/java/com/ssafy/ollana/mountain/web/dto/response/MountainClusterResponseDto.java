@@ -0,0 +1,26 @@
+package com.ssafy.ollana.mountain.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+ * 지도 화면의 산 묶음
+ * - count == 1 이면 산 1개 (latitude/longitude = 산 위치)
+ * - count > 1 이면 묶음 (latitude/longitude = 묶인 산들의 중심, id/name/altitude/level = 가장 높은 산)
+ */
+@Getter
+@Builder
+public class MountainClusterResponseDto {
+    private boolean cluster;
+    private int count;
+    private double latitude;
+    private double longitude;
+    private int id;
+    private String name;
+    private double altitude;
+    private String level;
+    // 이 zoom부터 묶음이 나뉨 (묶음 클릭 시 이동할 zoom)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer expansionZoom;
+}
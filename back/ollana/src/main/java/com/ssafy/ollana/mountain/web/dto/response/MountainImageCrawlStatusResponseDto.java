@@ -0,0 +1,19 @@
+package com.ssafy.ollana.mountain.web.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class MountainImageCrawlStatusResponseDto {
+    private boolean running;
+    private int total;              // 전체 산 수
+    private int completed;          // 이번 실행에서 저장한 산 수
+    private int skipped;            // 이전 실행에서 완료되어 건너뛴 산 수
+    private int failed;             // 실패한 산 수 (다음 실행에서 다시 시도)
+    private int images;             // 저장한 이미지 수
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
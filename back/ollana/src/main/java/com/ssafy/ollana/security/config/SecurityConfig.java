@@ -5,8 +5,10 @@ import com.ssafy.ollana.security.jwt.JwtAuthenticationFilter;
 import com.ssafy.ollana.security.jwt.JwtUtil;
 import com.ssafy.ollana.user.service.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -28,6 +30,9 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final TokenService tokenService;
 
+    @Value("${management.server.port}")
+    private int managementPort;
+
     // 비밀번호 암호화
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -53,6 +58,8 @@ public class SecurityConfig {
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
                 .authorizeHttpRequests(authorize -> authorize
+                        // 산 이미지 수집 시작은 /mountain/** 공개 규칙보다 먼저 인증 요구
+                        .requestMatchers(HttpMethod.POST, "/mountain/save-image").authenticated()
                         .requestMatchers(
                                 "/auth/login",
                                 "/auth/signup",
@@ -62,7 +69,12 @@ public class SecurityConfig {
                                 "/auth/password/reset",
                                 "/tracking/import/mtn",
                                 "/tracking/import/path",
-                                "/mountain/**")
+                                "/mountain/**",
+                                "/actuator/health")
+                        .permitAll()
+                        // 지표 수집은 내부망에만 열린 management 포트로 들어온 요청만 허용
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI()))
                         .permitAll()
                         .anyRequest().authenticated() // 나머지는 인증 필요
                 );
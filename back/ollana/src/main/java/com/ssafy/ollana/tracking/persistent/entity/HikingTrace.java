@@ -0,0 +1,46 @@
+package com.ssafy.ollana.tracking.persistent.entity;
+
+import com.ssafy.ollana.common.BaseEntity;
+import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/*
+ * 등산 1회의 전체 기록을 압축해서 한 행으로 저장 (HikingTraceCodec 참고)
+ */
+@Getter
+@Entity
+@Table(name = "hiking_trace")
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class HikingTrace extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "hiking_trace_id")
+    private Integer id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hiking_history_id", unique = true, nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private HikingHistory hikingHistory;
+
+    private int pointCount;
+
+    private int encodingVersion;
+
+    @Column(columnDefinition = "bytea", nullable = false)
+    private byte[] data;
+
+    public static HikingTrace of(HikingHistory hikingHistory, int pointCount, int encodingVersion, byte[] data) {
+        return HikingTrace.builder()
+                .hikingHistory(hikingHistory)
+                .pointCount(pointCount)
+                .encodingVersion(encodingVersion)
+                .data(data)
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.ssafy.ollana.tracking.persistent.entity;
+
+import com.ssafy.ollana.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/*
+ * RabbitMQ로 보낼 메시지를 비즈니스 데이터와 같은 트랜잭션에 저장 (transactional outbox)
+ * TrackingOutboxRelay가 전송 확인(publisher confirm)을 받은 뒤 삭제
+ */
+@Getter
+@Entity
+@Table(name = "tracking_outbox")
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class TrackingOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tracking_outbox_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String exchange;
+
+    @Column(nullable = false)
+    private String routingKey;
+
+    // JSON 메시지 본문
+    @Column(columnDefinition = "text", nullable = false)
+    private String payload;
+
+    public static TrackingOutbox of(String exchange, String routingKey, String payload) {
+        return TrackingOutbox.builder()
+                .exchange(exchange)
+                .routingKey(routingKey)
+                .payload(payload)
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.ssafy.ollana.tracking.persistent.repository;
+
+import com.ssafy.ollana.tracking.persistent.entity.HikingTrace;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface HikingTraceRepository extends JpaRepository<HikingTrace, Integer> {
+    Optional<HikingTrace> findByHikingHistoryId(Integer hikingHistoryId);
+}
@@ -0,0 +1,16 @@
+package com.ssafy.ollana.tracking.persistent.repository;
+
+import com.ssafy.ollana.tracking.persistent.entity.TrackingOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TrackingOutboxRepository extends JpaRepository<TrackingOutbox, Long> {
+
+    // 여러 relay가 동시에 실행돼도 같은 행을 중복 전송하지 않도록 잠긴 행은 건너뜀
+    @Query(value = "SELECT * FROM tracking_outbox ORDER BY tracking_outbox_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<TrackingOutbox> findBatchForPublish(@Param("limit") int limit);
+}
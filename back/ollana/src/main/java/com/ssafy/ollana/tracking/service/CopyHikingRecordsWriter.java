@@ -0,0 +1,137 @@
+package com.ssafy.ollana.tracking.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * PostgreSQL COPY FROM STDIN(csv) 으로 hiking_live_records 저장
+ * - 엔티티 생성/dirty checking 없이 행을 그대로 스트리밍
+ * - 현재 트랜잭션의 커넥션을 그대로 사용하므로 consumer 트랜잭션과 함께 커밋/롤백됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tracking.records.writer", havingValue = "copy")
+public class CopyHikingRecordsWriter implements HikingRecordsWriter {
+
+    private static final String COPY_SQL = """
+            COPY hiking_live_records (
+                hiking_live_records_id, user_id, mountain_id, path_id, hiking_history_id,
+                total_time, total_distance, latitude, longitude, heart_rate, created_at, updated_at
+            ) FROM STDIN WITH (FORMAT csv)
+            """;
+
+    // hiking_live_records_seq는 allocationSize(120) 단위로 증가하므로 nextval 1번에 id 120개를 사용 (hibernate pooled optimizer와 동일한 범위)
+    private static final String ID_BLOCK_SQL = "SELECT nextval('hiking_live_records_seq') FROM generate_series(1, ?)";
+    private static final int ID_BLOCK_SIZE = 120;
+
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final DataSource dataSource;
+
+    @Override
+    @Transactional
+    public void write(List<HikingLiveRecordsDTO> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            long[] ids = allocateIds(connection, records.size());
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                String now = LocalDateTime.now().toString();
+                StringBuilder rows = new StringBuilder(FLUSH_THRESHOLD + 256);
+
+                for (int i = 0; i < records.size(); i++) {
+                    appendRow(rows, ids[i], records.get(i), now);
+                    if (rows.length() >= FLUSH_THRESHOLD) {
+                        writeRows(copyIn, rows);
+                    }
+                }
+                writeRows(copyIn, rows);
+
+                long copied = copyIn.endCopy();
+                log.info("Copied {} HikingLiveRecords", copied);
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("hiking_live_records COPY", COPY_SQL, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /*
+     * nextval로 받은 값(hi)마다 hi-119 ~ hi 범위를 사용 (hibernate PooledOptimizer와 동일)
+     * 새 시퀀스의 첫 값(1)은 앞쪽 범위가 없으므로 1만 사용 -> 블록이 모자라면 남은 개수만큼 다시 할당
+     */
+    private long[] allocateIds(Connection connection, int count) throws SQLException {
+        long[] ids = new long[count];
+        int index = 0;
+
+        try (PreparedStatement statement = connection.prepareStatement(ID_BLOCK_SQL)) {
+            while (index < count) {
+                statement.setInt(1, (count - index + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next() && index < count) {
+                        long hi = rs.getLong(1);
+                        for (long id = Math.max(1, hi - ID_BLOCK_SIZE + 1); id <= hi && index < count; id++) {
+                            ids[index++] = id;
+                        }
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void appendRow(StringBuilder rows, long id, HikingLiveRecordsDTO dto, String now) {
+        rows.append(id).append(',')
+            .append(dto.getUserId()).append(',')
+            .append(dto.getMountainId()).append(',')
+            .append(dto.getPathId()).append(',')
+            .append(dto.getHikingHistoryId()).append(',')
+            .append(dto.getTotalTime()).append(',')
+            .append(dto.getTotalDistance()).append(',');
+        appendNullable(rows, dto.getLatitude()).append(',');
+        appendNullable(rows, dto.getLongitude()).append(',');
+        appendNullable(rows, dto.getHeartRate()).append(',')
+            .append(now).append(',')
+            .append(now).append('\n');
+    }
+
+    // csv 포맷에서 빈 값은 NULL
+    private StringBuilder appendNullable(StringBuilder rows, Object value) {
+        return value != null ? rows.append(value) : rows;
+    }
+
+    private void writeRows(CopyIn copyIn, StringBuilder rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        rows.setLength(0);
+    }
+}
@@ -0,0 +1,84 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.common.util.LruCache;
+import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
+import com.ssafy.ollana.tracking.service.exception.GhostNotFoundException;
+import com.ssafy.ollana.tracking.service.exception.GhostPathMismatchException;
+import com.ssafy.ollana.tracking.service.trace.GhostTrace;
+import com.ssafy.ollana.tracking.web.dto.response.GhostPositionResponseDto;
+import com.ssafy.ollana.tracking.web.dto.response.GhostPositionsResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class GhostService {
+
+    // 한 번에 조회할 수 있는 시간 개수
+    private static final int MAX_TIMES = 600;
+
+    private final HikingTraceService hikingTraceService;
+    private final HikingHistoryRepository hikingHistoryRepository;
+    private final TrackingService trackingService;
+    private final LruCache<Integer, Ghost> ghostCache;
+
+    public GhostService(HikingTraceService hikingTraceService,
+                        HikingHistoryRepository hikingHistoryRepository,
+                        TrackingService trackingService,
+                        @Value("${tracking.ghost.cache-size:200}") int cacheSize) {
+        this.hikingTraceService = hikingTraceService;
+        this.hikingHistoryRepository = hikingHistoryRepository;
+        this.trackingService = trackingService;
+        this.ghostCache = new LruCache<>(cacheSize);
+    }
+
+    /*
+     * 경과 시간 목록에 대한 ghost 위치 조회
+     * 다른 사용자의 이동 경로가 노출되지 않도록 현재 등산 중인 등산로의 기록만 조회 가능
+     */
+    public GhostPositionsResponseDto getGhostPositions(Integer userId, Integer hikingHistoryId, List<Integer> times) {
+        TrackingSession session = trackingService.getTrackingSession(userId);
+        GhostTrace ghost = getGhost(hikingHistoryId, session.getPathId());
+
+        // 빈 값(times=1,,3)은 null로 바인딩되므로 제외
+        List<GhostPositionResponseDto> positions = times.stream()
+                .filter(Objects::nonNull)
+                .limit(MAX_TIMES)
+                .map(ghost::positionAt)
+                .toList();
+
+        return GhostPositionsResponseDto.of(hikingHistoryId, ghost.getTotalTime(), ghost.getTotalDistance(), positions);
+    }
+
+    /*
+     * 등산 중인 등산로(pathId)의 기록만 ghost로 사용
+     * 최근 사용한 ghost는 메모리에서 재사용 (저장된 기록은 변하지 않으므로 만료 없음)
+     */
+    public GhostTrace getGhost(Integer hikingHistoryId, Integer pathId) {
+        Ghost ghost = findGhost(hikingHistoryId);
+        if (pathId == null || !Objects.equals(ghost.pathId(), pathId)) {
+            throw new GhostPathMismatchException();
+        }
+        return ghost.trace();
+    }
+
+    private Ghost findGhost(Integer hikingHistoryId) {
+        Ghost ghost = ghostCache.computeIfAbsent(hikingHistoryId, this::loadGhost);
+        if (ghost.trace().isEmpty()) {
+            ghostCache.remove(hikingHistoryId);
+            throw new GhostNotFoundException();
+        }
+        return ghost;
+    }
+
+    private Ghost loadGhost(Integer hikingHistoryId) {
+        Integer pathId = hikingHistoryRepository.findPathIdById(hikingHistoryId)
+                .orElseThrow(GhostNotFoundException::new);
+        return new Ghost(pathId, GhostTrace.from(hikingTraceService.loadTrace(hikingHistoryId)));
+    }
+
+    private record Ghost(Integer pathId, GhostTrace trace) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.ssafy.ollana.tracking.service.trace.TraceColumns;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+/*
+ * hiking-records-queue 메시지(List<HikingLiveRecordsDTO> JSON)를 컬럼 배열에서 바로 생성
+ * 필드 이름은 HikingLiveRecordsDTO의 @JsonProperty와 동일하게 유지
+ */
+public class HikingLiveRecordsMessage {
+
+    public static String toJson(JsonFactory jsonFactory, TraceColumns trace,
+                                int userId, int mountainId, int pathId, int hikingHistoryId) {
+        StringWriter out = new StringWriter(trace.getSize() * 160 + 2);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartArray();
+            for (int i = 0; i < trace.getSize(); i++) {
+                generator.writeStartObject();
+                generator.writeNumberField("userId", userId);
+                generator.writeNumberField("mountainId", mountainId);
+                generator.writeNumberField("pathId", pathId);
+                generator.writeNumberField("hikingHistoryId", hikingHistoryId);
+                generator.writeNumberField("totalTime", trace.getTime()[i]);
+                generator.writeNumberField("totalDistance", trace.getDistance()[i]);
+                if (trace.hasLocation(i)) {
+                    generator.writeNumberField("latitude", trace.getLatitude()[i]);
+                    generator.writeNumberField("longitude", trace.getLongitude()[i]);
+                }
+                generator.writeNumberField("heartRate", trace.getHeartRate()[i]);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+}
@@ -1,73 +1,62 @@
 package com.ssafy.ollana.tracking.service;
-import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
-import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
-import com.ssafy.ollana.footprint.service.exception.NotFoundException;
-import com.ssafy.ollana.mountain.persistent.entity.Mountain;
-import com.ssafy.ollana.mountain.persistent.entity.Path;
-import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
-import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
-import com.ssafy.ollana.tracking.persistent.entity.HikingLiveRecords;
-import com.ssafy.ollana.tracking.persistent.repository.HikingLiveRecordsRepository;
-import com.ssafy.ollana.user.entity.User;
-import com.ssafy.ollana.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.ssafy.ollana.common.config.RabbitMQConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class HikingRecordsConsumer {
 
-    private final HikingLiveRecordsRepository hikingLiveRecordsRepository;
-    private final UserRepository userRepository;
-    private final MountainRepository mountainRepository;
-    private final PathRepository pathRepository;
-    private final HikingHistoryRepository hikingHistoryRepository;
+    // tracking.records.writer 설정에 따라 JPA batch insert 또는 COPY
+    private final HikingRecordsWriter hikingRecordsWriter;
 
-    @RabbitListener(queues = "hiking-records-queue")
+    private final Counter messageCounter;
+    private final Counter pointCounter;
+    private final Counter failureCounter;
+    private final Timer consumeTimer;
+
+    public HikingRecordsConsumer(HikingRecordsWriter hikingRecordsWriter, MeterRegistry meterRegistry) {
+        this.hikingRecordsWriter = hikingRecordsWriter;
+
+        this.messageCounter = Counter.builder("hiking.records.consumer.messages")
+                .description("처리한 등산 기록 메시지 수")
+                .register(meterRegistry);
+        this.pointCounter = Counter.builder("hiking.records.consumer.points")
+                .description("저장한 등산 기록 포인트 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("hiking.records.consumer.failures")
+                .description("저장에 실패해 DLQ로 보낸 메시지 수")
+                .register(meterRegistry);
+        this.consumeTimer = Timer.builder("hiking.records.consumer.duration")
+                .description("메시지 1건 저장 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.HIKING_RECORDS_QUEUE)
     @Transactional
     public void consumeHikingRecords(List<HikingLiveRecordsDTO> dtoList) {
         log.info("Received {} HikingLiveRecordsDTO from queue", dtoList.size());
 
-        List<HikingLiveRecords> entityList = dtoList.stream()
-                .map(dto -> {
-                    User user = userRepository.findById(dto.getUserId()).orElseThrow(NotFoundException::new);
-                    Mountain mountain = mountainRepository.findById(dto.getMountainId()).orElseThrow(NotFoundException::new);
-                    Path path = pathRepository.findById(dto.getPathId()).orElseThrow(NotFoundException::new);
-                    HikingHistory history = hikingHistoryRepository.findById(dto.getHikingHistoryId()).orElseThrow(NotFoundException::new);
-
-                    return HikingLiveRecords.builder()
-                            .id(dto.getId())
-                            .user(user)
-                            .mountain(mountain)
-                            .path(path)
-                            .hikingHistory(history)
-                            .totalTime(dto.getTotalTime())
-                            .totalDistance(dto.getTotalDistance())
-                            .latitude(dto.getLatitude())
-                            .longitude(dto.getLongitude())
-                            .heartRate(dto.getHeartRate())
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        int batchSize = 120;
+        Timer.Sample sample = Timer.start();
         try {
-            for (int i = 0; i < entityList.size(); i += batchSize) {
-                List<HikingLiveRecords> batch = entityList.subList(i, Math.min(i + batchSize, entityList.size()));
-                hikingLiveRecordsRepository.saveAll(batch);
-                hikingLiveRecordsRepository.flush();
-                log.info("Saved batch of {} HikingLiveRecords", batch.size());
-            }
+            hikingRecordsWriter.write(dtoList);
         } catch (Exception e) {
+            failureCounter.increment();
             log.error("Failed to save HikingLiveRecords: {}", e.getMessage());
             throw e; // DLQ로 전송
+        } finally {
+            sample.stop(consumeTimer);
         }
+
+        messageCounter.increment();
+        pointCounter.increment(dtoList.size());
     }
-}
\ No newline at end of file
+}
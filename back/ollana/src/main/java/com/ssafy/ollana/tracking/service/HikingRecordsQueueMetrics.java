@@ -0,0 +1,45 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.common.config.RabbitMQConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.stereotype.Component;
+
+/*
+ * 등산 기록 큐 적체량 지표
+ * - hiking.records.queue.depth{queue=...} : 아직 소비되지 않은 메시지 수
+ * - 소비 속도는 HikingRecordsConsumer의 hiking.records.consumer.* 지표와 함께 확인
+ */
+@Slf4j
+@Component
+public class HikingRecordsQueueMetrics {
+
+    private final AmqpAdmin amqpAdmin;
+
+    public HikingRecordsQueueMetrics(AmqpAdmin amqpAdmin, MeterRegistry meterRegistry) {
+        this.amqpAdmin = amqpAdmin;
+
+        registerDepthGauge(meterRegistry, RabbitMQConfig.HIKING_RECORDS_QUEUE);
+        registerDepthGauge(meterRegistry, RabbitMQConfig.HIKING_RECORDS_DLQ);
+    }
+
+    private void registerDepthGauge(MeterRegistry meterRegistry, String queueName) {
+        Gauge.builder("hiking.records.queue.depth", this, metrics -> metrics.getQueueDepth(queueName))
+                .description("큐에 남아 있는 메시지 수")
+                .tag("queue", queueName)
+                .register(meterRegistry);
+    }
+
+    private double getQueueDepth(String queueName) {
+        try {
+            QueueInformation info = amqpAdmin.getQueueInfo(queueName);
+            return info != null ? info.getMessageCount() : Double.NaN;
+        } catch (Exception e) {
+            log.warn("큐 상태 조회 실패: queue={}, error={}", queueName, e.getMessage());
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.ssafy.ollana.tracking.service;
+
+import java.util.List;
+
+/*
+ * hiking_live_records 대량 저장
+ * tracking.records.writer 설정으로 구현체 선택 (jpa | copy)
+ */
+public interface HikingRecordsWriter {
+    void write(List<HikingLiveRecordsDTO> records);
+}
@@ -0,0 +1,76 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
+import com.ssafy.ollana.tracking.persistent.entity.HikingLiveRecords;
+import com.ssafy.ollana.tracking.persistent.entity.HikingTrace;
+import com.ssafy.ollana.tracking.persistent.repository.HikingLiveRecordsRepository;
+import com.ssafy.ollana.tracking.persistent.repository.HikingTraceRepository;
+import com.ssafy.ollana.tracking.service.trace.HikingTraceCodec;
+import com.ssafy.ollana.tracking.service.trace.TraceColumns;
+import com.ssafy.ollana.tracking.service.trace.TraceSimplifier;
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class HikingTraceService {
+
+    private final HikingTraceRepository hikingTraceRepository;
+    private final HikingLiveRecordsRepository hikingLiveRecordsRepository;
+
+    // 저장 시 적용할 Douglas-Peucker 허용 오차(m), 0이면 원본 그대로 저장
+    @Value("${tracking.trace.simplify.ingest-tolerance:0}")
+    private double ingestTolerance;
+
+    // 축소 후에도 포인트 사이 시간 간격이 이 값(초)을 넘지 않도록 유지
+    @Value("${tracking.trace.simplify.max-time-gap:30}")
+    private int maxTimeGap;
+
+    /*
+     * 등산 기록을 압축해서 저장
+     */
+    @Transactional
+    public HikingTrace saveTrace(HikingHistory history, TraceColumns trace) {
+        trace = TraceSimplifier.simplify(trace, ingestTolerance, null, maxTimeGap);
+        byte[] data = HikingTraceCodec.encode(trace);
+        return hikingTraceRepository.save(HikingTrace.of(history, trace.getSize(), HikingTraceCodec.VERSION, data));
+    }
+
+    /*
+     * 등산 기록 조회
+     * trace가 없는 이전 기록은 포인트 단위 테이블(hiking_live_records)에서 조회
+     */
+    @Transactional(readOnly = true)
+    public TraceColumns loadTrace(Integer hikingHistoryId) {
+        if (hikingHistoryId == null) {
+            return TraceColumns.empty();
+        }
+
+        return hikingTraceRepository.findByHikingHistoryId(hikingHistoryId)
+                .map(trace -> HikingTraceCodec.decode(trace.getData()))
+                .orElseGet(() -> loadLegacyRecords(hikingHistoryId));
+    }
+
+    /*
+     * 등산 기록을 축소해서 조회
+     * tolerance(m), maxPoints 중 지정된 조건으로 포인트를 줄임 (둘 다 없으면 원본)
+     */
+    @Transactional(readOnly = true)
+    public TraceColumns loadTrace(Integer hikingHistoryId, Double tolerance, Integer maxPoints) {
+        return TraceSimplifier.simplify(loadTrace(hikingHistoryId), tolerance, maxPoints, maxTimeGap);
+    }
+
+    private TraceColumns loadLegacyRecords(Integer hikingHistoryId) {
+        List<BattleRecordsForTrackingResponseDto> records = hikingLiveRecordsRepository.findByHikingHistoryId(hikingHistoryId).stream()
+                .sorted(Comparator.comparingInt(HikingLiveRecords::getTotalTime))
+                .map(BattleRecordsForTrackingResponseDto::from)
+                .toList();
+        return TraceColumns.from(records);
+    }
+}
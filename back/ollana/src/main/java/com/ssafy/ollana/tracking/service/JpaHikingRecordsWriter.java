@@ -0,0 +1,85 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
+import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.entity.Path;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
+import com.ssafy.ollana.tracking.persistent.entity.HikingLiveRecords;
+import com.ssafy.ollana.user.entity.User;
+import com.ssafy.ollana.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * JPA persist + hibernate jdbc batch insert
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tracking.records.writer", havingValue = "jpa", matchIfMissing = true)
+public class JpaHikingRecordsWriter implements HikingRecordsWriter {
+
+    // hibernate.jdbc.batch_size, hiking_live_records_seq allocationSize와 동일하게 유지
+    private static final int BATCH_SIZE = 120;
+
+    private final EntityManager em;
+    private final UserRepository userRepository;
+    private final MountainRepository mountainRepository;
+    private final PathRepository pathRepository;
+    private final HikingHistoryRepository hikingHistoryRepository;
+
+    @Override
+    @Transactional
+    public void write(List<HikingLiveRecordsDTO> records) {
+        // 메시지 안의 포인트는 같은 user/mountain/path/history를 공유하므로 id별로 한 번만 프록시 참조 생성 (조회 쿼리 없음)
+        Map<Integer, User> users = new HashMap<>();
+        Map<Integer, Mountain> mountains = new HashMap<>();
+        Map<Integer, Path> paths = new HashMap<>();
+        Map<Integer, HikingHistory> histories = new HashMap<>();
+
+        List<HikingLiveRecords> pending = new ArrayList<>(BATCH_SIZE);
+        for (HikingLiveRecordsDTO dto : records) {
+            HikingLiveRecords entity = HikingLiveRecords.builder()
+                    .user(users.computeIfAbsent(dto.getUserId(), userRepository::getReferenceById))
+                    .mountain(mountains.computeIfAbsent(dto.getMountainId(), mountainRepository::getReferenceById))
+                    .path(paths.computeIfAbsent(dto.getPathId(), pathRepository::getReferenceById))
+                    .hikingHistory(histories.computeIfAbsent(dto.getHikingHistoryId(), hikingHistoryRepository::getReferenceById))
+                    .totalTime(dto.getTotalTime())
+                    .totalDistance(dto.getTotalDistance())
+                    .latitude(dto.getLatitude())
+                    .longitude(dto.getLongitude())
+                    .heartRate(dto.getHeartRate())
+                    .build();
+
+            em.persist(entity);
+            pending.add(entity);
+
+            if (pending.size() == BATCH_SIZE) {
+                flushBatch(pending);
+            }
+        }
+        flushBatch(pending);
+    }
+
+    // batch_size 단위로 insert를 내보내고, 저장한 엔티티는 영속성 컨텍스트에서 분리해 dirty checking 대상에서 제외
+    private void flushBatch(List<HikingLiveRecords> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        em.flush();
+        pending.forEach(em::detach);
+        log.info("Saved batch of {} HikingLiveRecords", pending.size());
+        pending.clear();
+    }
+}
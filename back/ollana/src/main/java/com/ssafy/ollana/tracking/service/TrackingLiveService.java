@@ -0,0 +1,92 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.tracking.service.route.RouteGeometry;
+import com.ssafy.ollana.tracking.service.route.RouteProgress;
+import com.ssafy.ollana.tracking.service.route.RouteProgressEngine;
+import com.ssafy.ollana.tracking.service.trace.GhostTrace;
+import com.ssafy.ollana.tracking.web.dto.request.TrackingLiveRequestDto;
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import com.ssafy.ollana.tracking.web.dto.response.TrackingLiveResponseDto;
+import com.ssafy.ollana.tracking.web.dto.response.TrackingRecordsStatusResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TrackingLiveService {
+
+    // 트래킹 종료 시 정상 도착 판정 거리와 동일
+    private static final double SUMMIT_RADIUS = 300;
+
+    private final TrackingService trackingService;
+    private final GhostService ghostService;
+    private final TrackingRecordBuffer trackingRecordBuffer;
+    private final RouteProgressEngine routeProgressEngine;
+
+    /*
+     * 실시간 트래킹 연결 시작
+     * 진행 중인 트래킹 세션이 있어야 하며, ghostId(대결 상대 기록 id)가 있으면 함께 불러옴
+     * ghost가 세션과 다른 등산로의 기록이면 GhostPathMismatchException (연결 거부)
+     */
+    public TrackingLiveSession open(Integer userId, Integer ghostId) {
+        TrackingSession session = trackingService.getTrackingSession(userId);
+        RouteGeometry route = routeProgressEngine.getRoute(session.getPathId());
+
+        GhostTrace ghost = ghostId != null ? ghostService.getGhost(ghostId, session.getPathId()) : null;
+        return new TrackingLiveSession(session, route, ghost);
+    }
+
+    /*
+     * 위치 수신
+     * 기록은 /tracking/records 와 같은 버퍼에 누적하고, 마지막 포인트 기준 진행 상황을 계산
+     * 연결 이후 트래킹이 종료됐으면 버퍼/인덱스를 다시 만들지 않도록 InvalidTrackingException
+     */
+    public List<TrackingLiveResponseDto> receive(TrackingLiveSession live, TrackingLiveRequestDto request) {
+        TrackingRecordsStatusResponseDto status = trackingRecordBuffer.append(
+                live.getTrackingSession(), request.getSeq(), request.getRecords());
+
+        List<TrackingLiveResponseDto> responses = new ArrayList<>(2);
+        if (request.getRecords() == null || request.getRecords().isEmpty()) {
+            return responses;
+        }
+        trackingService.touchPresence(live.getTrackingSession(), request.getRecords());
+
+        BattleRecordsForTrackingResponseDto last = request.getRecords().get(request.getRecords().size() - 1);
+        TrackingLiveResponseDto.TrackingLiveResponseDtoBuilder progress = TrackingLiveResponseDto.builder()
+                .type(TrackingLiveResponseDto.PROGRESS)
+                .seq(status.getLastSeq())
+                .bufferedCount(status.getBufferedCount())
+                .time(last.getTime())
+                .distance(last.getDistance());
+
+        Double distanceToSummit = null;
+        if (last.getLatitude() != null && last.getLongitude() != null) {
+            RouteGeometry route = live.getRoute();
+            distanceToSummit = TrackingUtils.calculateDistance(
+                    route.getEndLatitude(), route.getEndLongitude(), last.getLatitude(), last.getLongitude());
+
+            // 등산로에 투영한 진행 상황
+            RouteProgress routeProgress = route.snap(last.getLatitude(), last.getLongitude());
+            progress.distanceToSummit(distanceToSummit)
+                    .distanceAlong(routeProgress.getDistanceAlong())
+                    .remainingDistance(routeProgress.getRemainingDistance())
+                    .progressPercent(routeProgress.getPercent())
+                    .offRouteDistance(routeProgress.getDeviation());
+        }
+
+        if (live.getGhost() != null) {
+            double ghostDistance = live.getGhost().positionAt(last.getTime()).getDistance();
+            progress.ghostDistance(ghostDistance)
+                    .ghostGap(last.getDistance() - ghostDistance);
+        }
+        responses.add(progress.build());
+
+        if (distanceToSummit != null && distanceToSummit <= SUMMIT_RADIUS && live.markSummitReached()) {
+            responses.add(TrackingLiveResponseDto.summit(last.getTime()));
+        }
+        return responses;
+    }
+}
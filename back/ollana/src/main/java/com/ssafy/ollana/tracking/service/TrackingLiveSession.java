@@ -0,0 +1,32 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.tracking.service.route.RouteGeometry;
+import com.ssafy.ollana.tracking.service.trace.GhostTrace;
+import lombok.Getter;
+
+/*
+ * WebSocket 연결 1개에 대한 실시간 트래킹 상태
+ * 연결 시 한 번 만들어 두고 메시지마다 재사용 (Redis 세션/등산로/ghost를 매번 조회하지 않음)
+ */
+@Getter
+public class TrackingLiveSession {
+    private final TrackingSession trackingSession;
+    private final RouteGeometry route;
+    private final GhostTrace ghost;
+    private boolean summitReached;
+
+    public TrackingLiveSession(TrackingSession trackingSession, RouteGeometry route, GhostTrace ghost) {
+        this.trackingSession = trackingSession;
+        this.route = route;
+        this.ghost = ghost;
+    }
+
+    // 처음 도착한 경우에만 true
+    public boolean markSummitReached() {
+        if (summitReached) {
+            return false;
+        }
+        summitReached = true;
+        return true;
+    }
+}
@@ -0,0 +1,103 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.tracking.persistent.entity.TrackingOutbox;
+import com.ssafy.ollana.tracking.persistent.repository.TrackingOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/*
+ * tracking_outbox -> RabbitMQ 전송
+ * - 한 번에 batchSize개씩 잠그고(SKIP LOCKED) 같은 채널로 모두 보낸 뒤 confirm을 한 번에 기다림
+ * - confirm을 받으면 같은 트랜잭션에서 행 삭제, 실패하면 롤백되어 다음 실행에서 다시 전송 (at-least-once)
+ * - 커밋 직후 이벤트로 바로 실행하고, 놓친 경우를 위해 주기적으로도 실행
+ */
+@Slf4j
+@Component
+public class TrackingOutboxRelay {
+
+    private final TrackingOutboxRepository trackingOutboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long confirmTimeout;
+
+    public TrackingOutboxRelay(TrackingOutboxRepository trackingOutboxRepository,
+                               RabbitTemplate rabbitTemplate,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${tracking.outbox.batch-size:50}") int batchSize,
+                               @Value("${tracking.outbox.confirm-timeout:5000}") long confirmTimeout) {
+        this.trackingOutboxRepository = trackingOutboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxSaved(TrackingOutboxSavedEvent event) {
+        relay();
+    }
+
+    @Scheduled(fixedDelayString = "${tracking.outbox.poll-interval:5000}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = publishBatch();
+            } while (published == batchSize);
+        } catch (Exception e) {
+            log.warn("outbox 전송 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    private int publishBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            List<TrackingOutbox> batch = trackingOutboxRepository.findBatchForPublish(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            rabbitTemplate.invoke(operations -> {
+                for (TrackingOutbox outbox : batch) {
+                    operations.send(outbox.getExchange(), outbox.getRoutingKey(), toMessage(outbox));
+                }
+                operations.waitForConfirmsOrDie(confirmTimeout);
+                return null;
+            });
+
+            trackingOutboxRepository.deleteAllInBatch(batch);
+            return batch.size();
+        });
+
+        if (published != null && published > 0) {
+            log.info("outbox에서 {}건 전송", published);
+        }
+        return published != null ? published : 0;
+    }
+
+    // 저장된 JSON을 다시 변환하지 않고 그대로 전송 (consumer는 리스너 파라미터 타입으로 역직렬화)
+    private Message toMessage(TrackingOutbox outbox) {
+        return MessageBuilder.withBody(outbox.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(String.valueOf(outbox.getId()))
+                .build();
+    }
+}
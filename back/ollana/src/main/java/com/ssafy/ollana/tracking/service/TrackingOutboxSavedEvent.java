@@ -0,0 +1,7 @@
+package com.ssafy.ollana.tracking.service;
+
+/*
+ * outbox에 메시지가 저장됨 (커밋 후 relay를 바로 실행하기 위한 신호)
+ */
+public class TrackingOutboxSavedEvent {
+}
@@ -0,0 +1,40 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ollana.tracking.persistent.entity.TrackingOutbox;
+import com.ssafy.ollana.tracking.persistent.repository.TrackingOutboxRepository;
+import com.ssafy.ollana.tracking.service.exception.TrackingOutboxException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class TrackingOutboxService {
+
+    private final TrackingOutboxRepository trackingOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /*
+     * 메시지를 현재 트랜잭션 안에서 outbox에 저장
+     * 실제 전송은 커밋 후 TrackingOutboxRelay가 수행 (롤백되면 전송되지 않음)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String exchange, String routingKey, Object message) {
+        try {
+            enqueueJson(exchange, routingKey, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new TrackingOutboxException();
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueJson(String exchange, String routingKey, String payload) {
+        trackingOutboxRepository.save(TrackingOutbox.of(exchange, routingKey, payload));
+        eventPublisher.publishEvent(new TrackingOutboxSavedEvent());
+    }
+}
@@ -0,0 +1,337 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.ssafy.ollana.tracking.web.dto.response.ActiveHikerCountResponseDto;
+import com.ssafy.ollana.tracking.web.dto.response.ActiveHikerResponseDto;
+import com.ssafy.ollana.tracking.web.dto.response.ActiveHikersResponseDto;
+import com.ssafy.ollana.user.entity.User;
+import com.ssafy.ollana.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * 현재 등산 중인 사용자 인덱스
+ *
+ * - tracking:{userId}                       : 세션 hash (마지막 위치, 마지막 수신 시각 포함)
+ * - tracking:presence:geo:{mountainId}      : 산별 GEO set (member = userId, 위치 공개에 동의한 사용자만)
+ * - tracking:presence:geo                   : 전체 GEO set (위치 공개에 동의한 사용자만)
+ * - tracking:presence:mountain:{mountainId} : 산별 활동 zset (score = 마지막 수신 시각)
+ * - tracking:presence:path:{pathId}         : 등산로별 활동 zset
+ * - tracking:presence:active                : 전체 활동 zset (member = userId:mountainId:pathId, 정리용)
+ *
+ * 개수/목록은 zset 점수 범위 조회라 O(log n), 반경 검색은 GEOSEARCH
+ * 일정 시간 위치가 들어오지 않은 사용자는 스케줄러가 인덱스에서 제거 (세션 hash는 TTL로 만료)
+ * 응답 좌표는 공개한 사용자만 약 100m 단위로 낮춰서 내려줌
+ */
+@Slf4j
+@Service
+public class TrackingPresenceService {
+
+    private static final String GEO_KEY = "tracking:presence:geo";
+    private static final String GEO_MOUNTAIN_KEY_PREFIX = "tracking:presence:geo:";
+    private static final String MOUNTAIN_KEY_PREFIX = "tracking:presence:mountain:";
+    private static final String PATH_KEY_PREFIX = "tracking:presence:path:";
+    private static final String ACTIVE_KEY = "tracking:presence:active";
+
+    private static final Duration SESSION_TTL = Duration.ofHours(24);
+    private static final int MAX_LIMIT = 200;
+    private static final int MAX_NEARBY_LIMIT = 50;
+    private static final double MAX_RADIUS = 5000;
+    // 좌표는 소수점 3자리(약 100m), 거리는 100m 단위로 반올림
+    private static final double COORDINATE_SCALE = 1000;
+    private static final double DISTANCE_UNIT = 100;
+
+    /*
+     * 세션 hash 조회
+     * 이전 버전은 같은 key에 "mountainId:pathId" 문자열을 저장했으므로, 문자열이면 TTL을 유지한 채 hash로 변환 후 반환
+     * (시작 시각은 알 수 없으므로 변환 시각으로 기록)
+     */
+    private static final RedisScript<List> READ_SESSION_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('TYPE', KEYS[1]).ok == 'string' then
+                local value = redis.call('GET', KEYS[1])
+                local ttl = redis.call('PTTL', KEYS[1])
+                local sep = string.find(value, ':', 1, true)
+                redis.call('DEL', KEYS[1])
+                if sep then
+                    redis.call('HSET', KEYS[1],
+                            'mountainId', string.sub(value, 1, sep - 1),
+                            'pathId', string.sub(value, sep + 1),
+                            'startedAt', ARGV[1],
+                            'lastSeenAt', ARGV[1])
+                    if ttl > 0 then
+                        redis.call('PEXPIRE', KEYS[1], ttl)
+                    end
+                end
+            end
+            return redis.call('HGETALL', KEYS[1])
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserRepository userRepository;
+    private final long staleAfterMillis;
+
+    public TrackingPresenceService(RedisTemplate<String, String> redisTemplate,
+                                   UserRepository userRepository,
+                                   @Value("${tracking.presence.stale-after:30m}") Duration staleAfter) {
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+        this.staleAfterMillis = staleAfter.toMillis();
+    }
+
+    /*
+     * 진행 중인 세션 hash (없으면 빈 map)
+     */
+    public Map<Object, Object> readSession(String redisKey) {
+        List<?> entries = redisTemplate.execute(READ_SESSION_SCRIPT, List.of(redisKey),
+                String.valueOf(System.currentTimeMillis()));
+
+        Map<Object, Object> fields = new HashMap<>();
+        if (entries != null) {
+            for (int i = 0; i + 1 < entries.size(); i += 2) {
+                fields.put(entries.get(i), entries.get(i + 1));
+            }
+        }
+        return fields;
+    }
+
+    /*
+     * 트래킹 시작 시 세션 저장 및 인덱스 등록
+     */
+    public void register(TrackingSession session, Double latitude, Double longitude) {
+        pipelined(ops -> {
+            ops.delete(session.getRedisKey());
+            ops.opsForHash().putAll(session.getRedisKey(), session.toHash());
+            ops.expire(session.getRedisKey(), SESSION_TTL);
+            index(ops, session, latitude, longitude, session.getStartedAt());
+        });
+    }
+
+    /*
+     * 위치 수신 시 마지막 위치/시각 갱신
+     */
+    public void touch(TrackingSession session, Double latitude, Double longitude) {
+        long now = System.currentTimeMillis();
+        pipelined(ops -> {
+            ops.opsForHash().put(session.getRedisKey(), TrackingSession.FIELD_LAST_SEEN_AT, String.valueOf(now));
+            if (latitude != null && longitude != null) {
+                ops.opsForHash().put(session.getRedisKey(), TrackingSession.FIELD_LATITUDE, String.valueOf(latitude));
+                ops.opsForHash().put(session.getRedisKey(), TrackingSession.FIELD_LONGITUDE, String.valueOf(longitude));
+            }
+            index(ops, session, latitude, longitude, now);
+        });
+    }
+
+    /*
+     * 트래킹 종료 시 세션 및 인덱스 제거
+     */
+    public void unregister(TrackingSession session) {
+        pipelined(ops -> {
+            ops.delete(session.getRedisKey());
+            removeFromIndex(ops, session.getUserId(), session.getMountainId(), session.getPathId());
+        });
+    }
+
+    /*
+     * 산(또는 등산로)별 등산 중인 사용자 수
+     */
+    public ActiveHikerCountResponseDto countActiveHikers(Integer mountainId, Integer pathId) {
+        Long count = redisTemplate.opsForZSet().count(getActiveKey(mountainId, pathId), getStaleBefore(), Double.POSITIVE_INFINITY);
+        return ActiveHikerCountResponseDto.of(mountainId, pathId, count != null ? count : 0);
+    }
+
+    /*
+     * 산(또는 등산로)별 등산 중인 사용자 목록 (최근 위치가 들어온 순)
+     */
+    public ActiveHikersResponseDto getActiveHikers(Integer mountainId, Integer pathId, int limit) {
+        String key = getActiveKey(mountainId, pathId);
+        double staleBefore = getStaleBefore();
+
+        Long count = redisTemplate.opsForZSet().count(key, staleBefore, Double.POSITIVE_INFINITY);
+        Set<String> members = redisTemplate.opsForZSet()
+                .reverseRangeByScore(key, staleBefore, Double.POSITIVE_INFINITY, 0, clamp(limit));
+
+        List<Integer> userIds = members == null ? List.of() : members.stream().map(Integer::valueOf).toList();
+        return ActiveHikersResponseDto.of(count != null ? count : 0, toHikers(userIds, null));
+    }
+
+    /*
+     * 기준 위치 반경(m) 안의 등산 중인 사용자 (가까운 순)
+     * mountainId가 있으면 해당 산 안에서만 검색, 반경은 최대 MAX_RADIUS / 개수는 최대 MAX_NEARBY_LIMIT
+     * 위치 공개에 동의한 사용자만 GEO set에 있으므로 그 외 사용자는 검색되지 않음
+     */
+    public ActiveHikersResponseDto getNearbyHikers(double latitude, double longitude, double radius, Integer mountainId, int limit) {
+        String key = mountainId != null ? GEO_MOUNTAIN_KEY_PREFIX + mountainId : GEO_KEY;
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results = redisTemplate.opsForGeo().search(
+                key,
+                GeoReference.fromCoordinate(longitude, latitude),
+                new Distance(Math.max(0, Math.min(radius, MAX_RADIUS)), RedisGeoCommands.DistanceUnit.METERS),
+                RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs()
+                        .includeDistance()
+                        .sortAscending()
+                        .limit(Math.max(1, Math.min(limit, MAX_NEARBY_LIMIT)))
+        );
+
+        if (results == null) {
+            return ActiveHikersResponseDto.of(0, List.of());
+        }
+
+        List<Integer> userIds = new ArrayList<>();
+        Map<Integer, Double> distances = new HashMap<>();
+        for (GeoResult<RedisGeoCommands.GeoLocation<String>> result : results) {
+            Integer userId = Integer.valueOf(result.getContent().getName());
+            userIds.add(userId);
+            distances.put(userId, result.getDistance().getValue());
+        }
+
+        List<ActiveHikerResponseDto> hikers = toHikers(userIds, distances);
+        return ActiveHikersResponseDto.of(hikers.size(), hikers);
+    }
+
+    /*
+     * 일정 시간 위치가 들어오지 않은 사용자를 인덱스에서 제거
+     * 여러 서버에서 동시에 실행돼도 같은 member를 지우는 것이므로 문제 없음
+     */
+    @Scheduled(fixedDelayString = "${tracking.presence.reap-interval:60000}")
+    public void reapStaleSessions() {
+        double staleBefore = getStaleBefore();
+        Set<String> staleMembers = redisTemplate.opsForZSet().rangeByScore(ACTIVE_KEY, 0, staleBefore);
+        if (staleMembers == null || staleMembers.isEmpty()) {
+            return;
+        }
+
+        pipelined(ops -> {
+            for (String member : staleMembers) {
+                String[] ids = member.split(":");
+                removeFromIndex(ops, Integer.valueOf(ids[0]), Integer.valueOf(ids[1]), Integer.valueOf(ids[2]));
+            }
+        });
+        log.info("등산 중 인덱스에서 {}명 정리", staleMembers.size());
+    }
+
+
+    private void index(RedisOperations<String, String> ops, TrackingSession session,
+                       Double latitude, Double longitude, long seenAt) {
+        String userId = String.valueOf(session.getUserId());
+        if (session.isVisible() && latitude != null && longitude != null) {
+            Point point = new Point(longitude, latitude);
+            ops.opsForGeo().add(GEO_KEY, point, userId);
+            ops.opsForGeo().add(GEO_MOUNTAIN_KEY_PREFIX + session.getMountainId(), point, userId);
+        }
+        ops.opsForZSet().add(MOUNTAIN_KEY_PREFIX + session.getMountainId(), userId, seenAt);
+        ops.opsForZSet().add(PATH_KEY_PREFIX + session.getPathId(), userId, seenAt);
+        ops.opsForZSet().add(ACTIVE_KEY, getActiveMember(session.getUserId(), session.getMountainId(), session.getPathId()), seenAt);
+    }
+
+    private void removeFromIndex(RedisOperations<String, String> ops, Integer userId, Integer mountainId, Integer pathId) {
+        String member = String.valueOf(userId);
+        ops.opsForGeo().remove(GEO_KEY, member);
+        ops.opsForGeo().remove(GEO_MOUNTAIN_KEY_PREFIX + mountainId, member);
+        ops.opsForZSet().remove(MOUNTAIN_KEY_PREFIX + mountainId, member);
+        ops.opsForZSet().remove(PATH_KEY_PREFIX + pathId, member);
+        ops.opsForZSet().remove(ACTIVE_KEY, getActiveMember(userId, mountainId, pathId));
+    }
+
+    // 세션 hash의 위치/시각과 닉네임을 합쳐서 응답 생성 (hash는 pipeline 1번, 사용자는 쿼리 1번)
+    private List<ActiveHikerResponseDto> toHikers(List<Integer> userIds, Map<Integer, Double> distances) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> sessions = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Integer userId : userIds) {
+                    ops.opsForHash().multiGet(TrackingSession.KEY_PREFIX + userId, Arrays.asList(
+                            TrackingSession.FIELD_PATH_ID,
+                            TrackingSession.FIELD_LATITUDE,
+                            TrackingSession.FIELD_LONGITUDE,
+                            TrackingSession.FIELD_LAST_SEEN_AT,
+                            TrackingSession.FIELD_VISIBLE));
+                }
+                return null;
+            }
+        });
+
+        Map<Integer, String> nicknames = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+
+        List<ActiveHikerResponseDto> hikers = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            Integer userId = userIds.get(i);
+            List<?> fields = (List<?>) sessions.get(i);
+            boolean visible = TrackingSession.parseVisible(fields.get(4));
+            Double distance = distances != null ? distances.get(userId) : null;
+            hikers.add(ActiveHikerResponseDto.builder()
+                    .userId(userId)
+                    .nickname(nicknames.get(userId))
+                    .pathId(parse(fields.get(0), Integer::valueOf))
+                    .latitude(visible ? coarsen(parse(fields.get(1), Double::valueOf), COORDINATE_SCALE) : null)
+                    .longitude(visible ? coarsen(parse(fields.get(2), Double::valueOf), COORDINATE_SCALE) : null)
+                    .lastSeenAt(parse(fields.get(3), Long::valueOf))
+                    .distance(distance != null ? Math.round(distance / DISTANCE_UNIT) * DISTANCE_UNIT : null)
+                    .build());
+        }
+        return hikers;
+    }
+
+    private void pipelined(Consumer<RedisOperations<String, String>> commands) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    private <T> T parse(Object value, Function<String, T> parser) {
+        return value != null ? parser.apply((String) value) : null;
+    }
+
+    private Double coarsen(Double value, double scale) {
+        return value != null ? Math.round(value * scale) / scale : null;
+    }
+
+    private String getActiveKey(Integer mountainId, Integer pathId) {
+        return pathId != null ? PATH_KEY_PREFIX + pathId : MOUNTAIN_KEY_PREFIX + mountainId;
+    }
+
+    private String getActiveMember(Integer userId, Integer mountainId, Integer pathId) {
+        return userId + ":" + mountainId + ":" + pathId;
+    }
+
+    private double getStaleBefore() {
+        return System.currentTimeMillis() - staleAfterMillis;
+    }
+
+    private int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
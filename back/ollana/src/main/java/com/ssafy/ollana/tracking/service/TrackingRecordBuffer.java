@@ -0,0 +1,203 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ollana.tracking.service.exception.InvalidTrackingException;
+import com.ssafy.ollana.tracking.service.exception.TrackingRecordsLimitException;
+import com.ssafy.ollana.tracking.service.exception.TrackingRecordsBufferException;
+import com.ssafy.ollana.tracking.service.trace.CompactTraceCodec;
+import com.ssafy.ollana.tracking.service.trace.TraceColumns;
+import com.ssafy.ollana.tracking.service.trace.TraceColumnsBuilder;
+import com.ssafy.ollana.tracking.service.trace.TraceColumnsDeserializer;
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import com.ssafy.ollana.tracking.web.dto.response.TrackingRecordsStatusResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/*
+ * 등산 중 전송되는 기록 청크를 세션별 Redis Stream(tracking:{userId}:records)에 누적
+ * - 스트림 엔트리 1개 = 클라이언트가 보낸 청크 1개
+ * - 엔트리마다 seq, 누적 개수, 마지막 시간을 함께 저장해 재전송/재개 시 마지막 엔트리만 읽으면 됨
+ * - 청크당 MAX_CHUNK_SIZE개, 세션당 CompactTraceCodec.MAX_POINTS개까지만 받음 (종료 시 전체를 메모리로 읽으므로)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrackingRecordBuffer {
+
+    private static final String RECORDS_KEY_SUFFIX = ":records";
+    private static final String FIELD_SEQ = "seq";
+    private static final String FIELD_COUNT = "count";
+    private static final String FIELD_LAST_TIME = "lastTime";
+    private static final String FIELD_RECORDS = "records";
+    private static final Duration BUFFER_TTL = Duration.ofHours(24);
+    // 한 청크로 받을 수 있는 최대 포인트 수
+    private static final int MAX_CHUNK_SIZE = 1_000;
+    private static final String LIMIT_EXCEEDED = "LIMIT";
+
+    /*
+     * 세션 확인 -> 마지막 엔트리 확인 -> seq 비교 -> XADD를 한 번에 실행
+     * - 같은 seq가 동시에 들어와도 하나만 추가됨
+     * - 트래킹이 종료됐거나 새 트래킹이 시작된 경우(startedAt 불일치) 추가하지 않고 빈 목록 반환
+     * - 누적 개수가 ARGV[7]을 넘으면 추가하지 않고 {'LIMIT'} 반환
+     * 반환: {seq, count, lastTime} (값이 없으면 빈 문자열)
+     */
+    private static final RedisScript<List> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            local startedAt = redis.call('HGET', KEYS[2], 'startedAt')
+            if not startedAt or (ARGV[6] ~= '' and startedAt ~= ARGV[6]) then
+                return {}
+            end
+            local lastSeq, count, lastTime = 0, 0, ''
+            local last = redis.call('XREVRANGE', KEYS[1], '+', '-', 'COUNT', 1)
+            if #last > 0 then
+                local fields = last[1][2]
+                for i = 1, #fields, 2 do
+                    if fields[i] == 'seq' then lastSeq = tonumber(fields[i + 1])
+                    elseif fields[i] == 'count' then count = tonumber(fields[i + 1])
+                    elseif fields[i] == 'lastTime' then lastTime = fields[i + 1] end
+                end
+            end
+            local seq = tonumber(ARGV[1])
+            if seq <= lastSeq then
+                return {#last > 0 and tostring(lastSeq) or '', tostring(count), lastTime}
+            end
+            if count + tonumber(ARGV[2]) > tonumber(ARGV[7]) then
+                return {'LIMIT'}
+            end
+            count = count + tonumber(ARGV[2])
+            redis.call('XADD', KEYS[1], '*', 'seq', ARGV[1], 'count', tostring(count), 'lastTime', ARGV[3], 'records', ARGV[4])
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            return {ARGV[1], tostring(count), ARGV[3]}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /*
+     * 청크 추가
+     * 이미 반영된 seq가 다시 들어오면(네트워크 재시도) 무시하고 현재 상태만 반환
+     * 그 사이 트래킹이 종료됐으면 스트림을 다시 만들지 않고 예외
+     * 청크 또는 누적 포인트 수가 제한을 넘으면 TrackingRecordsLimitException
+     */
+    public TrackingRecordsStatusResponseDto append(TrackingSession session, Integer seq,
+                                                   List<BattleRecordsForTrackingResponseDto> records) {
+        if (seq == null || records == null || records.isEmpty()) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(session.getRedisKey()))) {
+                throw new InvalidTrackingException();
+            }
+            return getStatus(session.getRedisKey());
+        }
+        if (records.size() > MAX_CHUNK_SIZE) {
+            throw new TrackingRecordsLimitException();
+        }
+
+        int chunkLastTime = records.get(records.size() - 1).getTime();
+        List<?> result = redisTemplate.execute(APPEND_SCRIPT,
+                List.of(getRecordsKey(session.getRedisKey()), session.getRedisKey()),
+                String.valueOf(seq),
+                String.valueOf(records.size()),
+                String.valueOf(chunkLastTime),
+                writeRecords(records),
+                String.valueOf(BUFFER_TTL.toSeconds()),
+                session.getStartedAt() != null ? String.valueOf(session.getStartedAt()) : "",
+                String.valueOf(CompactTraceCodec.MAX_POINTS));
+        if (result == null || result.isEmpty()) {
+            throw new InvalidTrackingException();
+        }
+        if (LIMIT_EXCEEDED.equals(result.get(0))) {
+            throw new TrackingRecordsLimitException();
+        }
+
+        return TrackingRecordsStatusResponseDto.of(
+                parseNullable((String) result.get(0)),
+                Integer.parseInt((String) result.get(1)),
+                parseNullable((String) result.get(2))
+        );
+    }
+
+    /*
+     * 현재까지 누적된 상태 조회 (앱 재시작 후 이어서 전송할 위치 확인용)
+     */
+    public TrackingRecordsStatusResponseDto getStatus(String sessionKey) {
+        MapRecord<String, String, String> last = findLastEntry(getRecordsKey(sessionKey));
+        if (last == null) {
+            return TrackingRecordsStatusResponseDto.of(null, 0, null);
+        }
+
+        return TrackingRecordsStatusResponseDto.of(
+                Integer.valueOf(last.getValue().get(FIELD_SEQ)),
+                Integer.parseInt(last.getValue().get(FIELD_COUNT)),
+                Integer.valueOf(last.getValue().get(FIELD_LAST_TIME))
+        );
+    }
+
+    /*
+     * 누적된 전체 기록을 순서대로 조립 (청크 JSON을 포인트 객체 없이 바로 컬럼 배열로 읽음)
+     */
+    public TraceColumns readColumns(String sessionKey) {
+        List<MapRecord<String, String, String>> entries = streamOps().range(getRecordsKey(sessionKey), Range.unbounded());
+        if (entries == null || entries.isEmpty()) {
+            return TraceColumns.empty();
+        }
+
+        int total = Integer.parseInt(entries.get(entries.size() - 1).getValue().get(FIELD_COUNT));
+        TraceColumnsBuilder builder = new TraceColumnsBuilder(total);
+        for (MapRecord<String, String, String> entry : entries) {
+            readRecordsInto(entry.getValue().get(FIELD_RECORDS), builder);
+        }
+        return builder.build();
+    }
+
+    public void clear(String sessionKey) {
+        redisTemplate.delete(getRecordsKey(sessionKey));
+    }
+
+
+    private MapRecord<String, String, String> findLastEntry(String key) {
+        List<MapRecord<String, String, String>> last = streamOps().reverseRange(key, Range.unbounded(), Limit.limit().count(1));
+        return (last == null || last.isEmpty()) ? null : last.get(0);
+    }
+
+    private Integer parseNullable(String value) {
+        return value == null || value.isEmpty() ? null : Integer.valueOf(value);
+    }
+
+    private StreamOperations<String, String, String> streamOps() {
+        return redisTemplate.opsForStream();
+    }
+
+    private String writeRecords(List<BattleRecordsForTrackingResponseDto> records) {
+        try {
+            return objectMapper.writeValueAsString(records);
+        } catch (JsonProcessingException e) {
+            throw new TrackingRecordsBufferException();
+        }
+    }
+
+    private void readRecordsInto(String json, TraceColumnsBuilder builder) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            parser.nextToken();
+            TraceColumnsDeserializer.readInto(parser, builder);
+        } catch (IOException e) {
+            log.error("버퍼에 저장된 등산 기록 파싱 실패: {}", e.getMessage());
+            throw new TrackingRecordsBufferException();
+        }
+    }
+
+    private String getRecordsKey(String sessionKey) {
+        return sessionKey + RECORDS_KEY_SUFFIX;
+    }
+}
@@ -1,25 +1,33 @@
 package com.ssafy.ollana.tracking.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.ollana.common.config.RabbitMQConfig;
 import com.ssafy.ollana.footprint.persistent.entity.Footprint;
 import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
 import com.ssafy.ollana.footprint.persistent.repository.FootprintRepository;
 import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
 import com.ssafy.ollana.footprint.service.BattleHistoryService;
+import com.ssafy.ollana.footprint.service.UserHikingSummaryService;
 import com.ssafy.ollana.footprint.service.exception.NotFoundException;
 import com.ssafy.ollana.footprint.web.dto.response.TodayHikingResultResponseDto;
 import com.ssafy.ollana.mountain.persistent.entity.Mountain;
 import com.ssafy.ollana.mountain.persistent.entity.Path;
 import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
 import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
+import com.ssafy.ollana.mountain.service.MountainAutocompleteIndex;
+import com.ssafy.ollana.mountain.service.MountainSpatialIndex;
 import com.ssafy.ollana.mountain.web.dto.response.MountainResponseDto;
-import com.ssafy.ollana.tracking.persistent.repository.HikingLiveRecordsRepository;
-import com.ssafy.ollana.tracking.persistent.entity.HikingLiveRecords;
 import com.ssafy.ollana.tracking.service.exception.AlreadyTrackingException;
 import com.ssafy.ollana.tracking.service.exception.CannotSaveBeforeSummitException;
 import com.ssafy.ollana.tracking.service.exception.InvalidTrackingException;
 import com.ssafy.ollana.tracking.service.exception.NoNearbyMountainException;
+import com.ssafy.ollana.tracking.service.route.PathRouteCache;
+import com.ssafy.ollana.tracking.service.route.PathRoutePayload;
+import com.ssafy.ollana.tracking.service.trace.GeometryEncoding;
+import com.ssafy.ollana.tracking.service.trace.TraceColumns;
+import com.ssafy.ollana.tracking.web.dto.request.RouteOptionRequestDto;
 import com.ssafy.ollana.tracking.web.dto.request.TrackingFinishRequestDto;
+import com.ssafy.ollana.tracking.web.dto.request.TrackingRecordsAppendRequestDto;
 import com.ssafy.ollana.tracking.web.dto.request.TrackingStartRequestDto;
 import com.ssafy.ollana.tracking.web.dto.response.*;
 import com.ssafy.ollana.user.entity.User;
@@ -28,13 +36,13 @@ import com.ssafy.ollana.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -42,26 +50,35 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class TrackingService {
+    // 자동완성 최대 개수
+    private static final int SUGGESTION_LIMIT = 10;
+
     private final MountainRepository mountainRepository;
+    private final MountainSpatialIndex mountainSpatialIndex;
+    private final MountainAutocompleteIndex mountainAutocompleteIndex;
     private final FootprintRepository footprintRepository;
     private final PathRepository pathRepository;
     private final UserRepository userRepository;
     private final HikingHistoryRepository hikingHistoryRepository;
-    private final HikingLiveRecordsRepository hikingLiveRecordsRepository;
     private final UserService userService;
     private final BattleHistoryService battleHistoryService;
+    private final UserHikingSummaryService userHikingSummaryService;
     private final ApplicationEventPublisher eventPublisher;
     private final RedisTemplate<String, String> redisTemplate;
-    private final RabbitTemplate rabbitTemplate;
-    private static final String TRACKING_STATUS_KEY_PREFIX = "tracking:";
+    private final TrackingOutboxService trackingOutboxService;
+    private final ObjectMapper objectMapper;
+    private final TrackingRecordBuffer trackingRecordBuffer;
+    private final TrackingPresenceService trackingPresenceService;
+    private final HikingTraceService hikingTraceService;
+    private final PathRouteCache pathRouteCache;
 
 
     /*
      * 사용자 위치 인식 후 가장 가까운 산 반환
      */
     @Transactional(readOnly = true)
-    public NearestMountainResponseDto findNearestMountain(double lat, double lng) {
-        Mountain mountain = mountainRepository.findNearestMountain(lat, lng)
+    public NearestMountainResponseDto findNearestMountain(double lat, double lng, RouteOptionRequestDto option) {
+        Mountain mountain = mountainSpatialIndex.findNearestMountain(lat, lng)
                 .orElseThrow(NoNearbyMountainException::new);
 
         List<Path> paths = pathRepository.findByMountainId(mountain.getId());
@@ -69,38 +86,38 @@ public class TrackingService {
         return NearestMountainResponseDto.builder()
                 .mountain(MountainResponseDto.from(mountain))
                 .paths(paths.stream()
-                        .map(PathForTrackingResponseDto::from)
+                        .map(path -> toPathResponse(path, option))
                         .toList())
                 .build();
     }
 
     /*
-     * 산 검색 시 자동완성
+     * 산 검색 시 자동완성 (메모리 인덱스 조회, DB 접근 없음)
      */
-    @Transactional(readOnly = true)
     public MountainSuggestionsResponseDto getMountainSuggestions(String mountainName) {
-        List<Mountain> mountains = mountainRepository.findTop10ByMountainNameContaining(mountainName);
-        return MountainSuggestionsResponseDto.from(mountains);
+        return MountainSuggestionsResponseDto.of(mountainAutocompleteIndex.suggest(mountainName, SUGGESTION_LIMIT));
     }
 
     /*
      * 산 검색 결과 반환
      */
     @Transactional(readOnly = true)
-    public MountainSearchResponseDto getMountainSearchResults(String mountainName) {
+    public MountainSearchResponseDto getMountainSearchResults(String mountainName, RouteOptionRequestDto option) {
         List<Mountain> mountains = mountainRepository.findByMountainNameContaining(mountainName);
 
+        // 검색된 산들의 등산로를 한 번에 조회한 뒤 산 id 별로 묶음
+        Map<Integer, List<Path>> pathsByMountain = mountains.isEmpty()
+                ? Map.of()
+                : pathRepository.findByMountainIdIn(mountains.stream().map(Mountain::getId).toList()).stream()
+                        .collect(Collectors.groupingBy(path -> path.getMountain().getId()));
+
         List<MountainSearchListResponseDto> results = mountains.stream()
-                .map(mountain -> {
-                    List<Path> paths = pathRepository.findByMountainId(mountain.getId());
-
-                    return MountainSearchListResponseDto.builder()
-                            .mountain(MountainAddressResponseDto.from(mountain))
-                            .paths(paths.stream()
-                                    .map(PathForTrackingResponseDto::from)
-                                    .toList())
-                            .build();
-                })
+                .map(mountain -> MountainSearchListResponseDto.builder()
+                        .mountain(MountainAddressResponseDto.from(mountain))
+                        .paths(pathsByMountain.getOrDefault(mountain.getId(), List.of()).stream()
+                                .map(path -> toPathResponse(path, option))
+                                .toList())
+                        .build())
                 .toList();
 
         return MountainSearchResponseDto.from(results);
@@ -110,7 +127,7 @@ public class TrackingService {
      * 산 리스트 중 특정 산 선택 시 결과 반환
      */
     @Transactional(readOnly = true)
-    public MountainSearchListResponseDto getMountainSelectResult(Integer mountainId) {
+    public MountainSearchListResponseDto getMountainSelectResult(Integer mountainId, RouteOptionRequestDto option) {
         Mountain mountain = mountainRepository.findById(mountainId)
                 .orElseThrow(NotFoundException::new);
 
@@ -119,11 +136,20 @@ public class TrackingService {
         return MountainSearchListResponseDto.builder()
                 .mountain(MountainAddressResponseDto.from(mountain))
                 .paths(paths.stream()
-                        .map(PathForTrackingResponseDto::from)
+                        .map(path -> toPathResponse(path, option))
                         .toList())
                 .build();
     }
 
+    /*
+     * 등산로 좌표 조회 (캐시된 JSON 또는 polyline, zoom/tolerance 지정 시 축소된 좌표)
+     */
+    @Transactional(readOnly = true)
+    public PathRouteResponseDto getPathRoute(Integer pathId, RouteOptionRequestDto option) {
+        PathRoutePayload route = pathRouteCache.get(pathId, option.getZoom(), option.getTolerance());
+        return PathRouteResponseDto.of(pathId, route, GeometryEncoding.from(option.getEncoding()));
+    }
+
     /*
      * [나 VS 나] 모드 선택 시 가장 최근의 이전 정보 조회
      */
@@ -165,6 +191,7 @@ public class TrackingService {
      */
     @Transactional(readOnly = true)
     public TrackingStartResponseDto getTrackingStartInfo(Integer userId, TrackingStartRequestDto request) {
+        GeometryEncoding encoding = GeometryEncoding.from(request.getEncoding());
 
         // 등산 중인지 검증
         String redisKey = getTrackingStatusKey(userId);
@@ -179,7 +206,7 @@ public class TrackingService {
                 .orElseThrow(NotFoundException::new);
 
         // 선택한 산이 사용자 현 위치를 기준으로 반경 15km 이내에 존재하는지 검증
-        boolean isNearby = mountainRepository.isMountainWithin10km(
+        boolean isNearby = mountainSpatialIndex.isMountainNearby(
                 request.getMountainId(),
                 request.getLatitude(),
                 request.getLongitude()
@@ -204,17 +231,20 @@ public class TrackingService {
             hikingHistory = hikingHistoryRepository.findById(request.getRecordId())
                                                    .orElseThrow(NotFoundException::new);
         }
-        List<HikingLiveRecords> records = hikingLiveRecordsRepository.findByHikingHistoryId(request.getRecordId());
 
         if (opponent != null) {
-            opponentDto = OpponentResponseDto.from(opponent, hikingHistory, records);
+            TraceColumns trace = hikingTraceService.loadTrace(request.getRecordId(), request.getTolerance(), request.getMaxPoints());
+            opponentDto = OpponentResponseDto.from(opponent, hikingHistory, trace, encoding);
         }
 
-        // redis에 등산 상태 저장
-        String redisValue = request.getMountainId() + ":" + request.getPathId();
-        redisTemplate.opsForValue().set(redisKey, redisValue, Duration.ofHours(24));
+        // redis에 등산 상태 저장 및 등산 중 인덱스 등록 (이전 세션에서 남은 기록 버퍼는 정리)
+        TrackingSession session = TrackingSession.of(redisKey, userId, request.getMountainId(), request.getPathId(),
+                System.currentTimeMillis(), Boolean.TRUE.equals(request.getVisible()));
+        trackingPresenceService.register(session, request.getLatitude(), request.getLongitude());
+        trackingRecordBuffer.clear(redisKey);
 
-        return TrackingStartResponseDto.from(isNearby, mountain, path, opponentDto);
+        return TrackingStartResponseDto.from(isNearby, mountain,
+                PathForTrackingResponseDto.from(path, pathRouteCache.get(path), encoding), opponentDto);
     }
 
     /*
@@ -224,26 +254,30 @@ public class TrackingService {
     public TrackingFinishResponseDto manageTrackingFinish(Integer userId, TrackingFinishRequestDto request) {
         log.info("트래킹 종료 API 호출 -> 요청 데이터 : {}", request);
 
-        String redisKey = getTrackingStatusKey(userId);
-        String redisValue = (String) redisTemplate.opsForValue().get(redisKey);
-        String expectedValue = request.getMountainId() + ":" + request.getPathId();
-        if (redisValue == null || !redisValue.equals(expectedValue)) {
-            throw new InvalidTrackingException();
-        }
+        TrackingSession session = validateTrackingSession(userId, request.getMountainId(), request.getPathId());
+        String redisKey = session.getRedisKey();
 
         User user = userRepository.findById(userId).orElseThrow(NotFoundException::new);
         Path path = pathRepository.findById(request.getPathId()).orElseThrow(NotFoundException::new);
         Mountain mountain = mountainRepository.findById(request.getMountainId()).orElseThrow(NotFoundException::new);
 
-        // 정상 도착했는지 확인
+        // 요청에 기록이 없으면 등산 중 전송된 청크를 조립해서 사용 (저장은 항상 시간순)
+        TraceColumns records = ((request.getRecords() == null || request.getRecords().isEmpty())
+                ? trackingRecordBuffer.readColumns(redisKey)
+                : request.getRecords()).sortedByTime();
+
+        // 정상 도착했는지 확인 (최종 위치가 없으면 기록의 마지막 위치 사용)
         Coordinate end = path.getRoute().getEndPoint().getCoordinate();
         double endLat = end.y;
         double endLng = end.x;
-        double userLat = request.getFinalLatitude();
-        double userLng = request.getFinalLongitude();
+        int lastLocated = records.lastLocatedIndex();
+        double userLat = request.getFinalLatitude() != null ? request.getFinalLatitude()
+                : lastLocated >= 0 ? records.getLatitude()[lastLocated] : Double.NaN;
+        double userLng = request.getFinalLongitude() != null ? request.getFinalLongitude()
+                : lastLocated >= 0 ? records.getLongitude()[lastLocated] : Double.NaN;
         double distance = TrackingUtils.calculateDistance(endLat, endLng, userLat, userLng);
 
-        if (distance > 300 && request.isSave()) {
+        if ((Double.isNaN(distance) || distance > 300) && request.isSave()) {
             throw new CannotSaveBeforeSummitException();
         }
 
@@ -258,38 +292,27 @@ public class TrackingService {
             Footprint footprint = footprintRepository.findByUserAndMountain(user, mountain)
                                         .orElseGet(() -> footprintRepository.save(Footprint.of(user, mountain)));
 
-            List<Integer> heartRates = request.getRecords().stream()
-                    .map(BattleRecordsForTrackingResponseDto::getHeartRate)
-                    .filter(Objects::nonNull)
-                    .toList();
-
-            HikingHistory history = HikingHistory.of(footprint, path, request.getFinalTime(), heartRates);
+            // 심박수 평균/최대값은 기록을 읽으면서 계산됨
+            HikingHistory history = HikingHistory.of(footprint, path, request.getFinalTime(),
+                                                     records.getAverageHeartRate(), records.getMaxHeartRate());
             hikingHistoryRepository.save(history);
 
             avg = history.getAverageHeartRate();
             max = history.getMaxHeartRate();
 
-            List<HikingLiveRecords> entityList = TrackingUtils.toEntities(request.getRecords(), user, mountain, path, history);
-            // DTO로 변환하여 RabbitMQ로 전송
-            List<HikingLiveRecordsDTO> dtoList = entityList.stream()
-                    .map(entity -> HikingLiveRecordsDTO.builder()
-                            .id(entity.getId())
-                            .userId(user.getId())
-                            .mountainId(mountain.getId())
-                            .pathId(path.getId())
-                            .hikingHistoryId(history.getId())
-                            .totalTime(entity.getTotalTime())
-                            .totalDistance(entity.getTotalDistance())
-                            .latitude(entity.getLatitude())
-                            .longitude(entity.getLongitude())
-                            .heartRate(entity.getHeartRate())
-                            .build())
-                    .collect(Collectors.toList());
-
-            rabbitTemplate.convertAndSend(RabbitMQConfig.HIKING_RECORDS_QUEUE, dtoList);
+            // 전체 기록을 압축하여 한 행으로 저장
+            hikingTraceService.saveTrace(history, records);
+
+            // 컬럼 배열에서 바로 메시지(JSON)를 만들어 같은 트랜잭션에서 outbox에 저장하고 커밋 후 relay가 전송
+            String message = HikingLiveRecordsMessage.toJson(objectMapper.getFactory(), records,
+                    user.getId(), mountain.getId(), path.getId(), history.getId());
+            trackingOutboxService.enqueueJson(RabbitMQConfig.EXCHANGE, RabbitMQConfig.ROUTING_KEY, message);
 
             // 경험치 및 거리 갱신
             userService.updateUserInfoAfterTracking(user, request.getFinalDistance(), mountain.getLevel());
+
+            // 홈 화면/로그인용 사용자 요약 갱신
+            userHikingSummaryService.recordHike(user, mountain, path, history);
         }
 
         // 나 VS 친구인 경우 대결 결과 저장
@@ -307,14 +330,96 @@ public class TrackingService {
             }
         }
 
-        // Redis key 제거
-        redisTemplate.delete(redisKey);
+        // Redis key 제거 및 등산 중 인덱스에서 제외 (커밋이 실패하면 버퍼를 남겨 재시도할 수 있도록 커밋 이후에 실행)
+        runAfterCommit(() -> {
+            trackingPresenceService.unregister(session);
+            trackingRecordBuffer.clear(redisKey);
+        });
         return TrackingFinishResponseDto.of(badge, avg, max, timeDiff);
     }
 
+    /*
+     * 등산 중 기록 청크 업로드
+     */
+    public TrackingRecordsStatusResponseDto appendTrackingRecords(Integer userId, TrackingRecordsAppendRequestDto request) {
+        TrackingSession session = validateTrackingSession(userId, request.getMountainId(), request.getPathId());
+        TrackingRecordsStatusResponseDto status = trackingRecordBuffer.append(session, request.getSeq(), request.getRecords());
+        touchPresence(session, request.getRecords());
+        return status;
+    }
+
+    /*
+     * 업로드된 기록 상태 조회 (앱 재시작 시 이어서 전송하기 위함)
+     */
+    public TrackingRecordsStatusResponseDto getTrackingRecordsStatus(Integer userId) {
+        String redisKey = getTrackingStatusKey(userId);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(redisKey))) {
+            throw new InvalidTrackingException();
+        }
+        return trackingRecordBuffer.getStatus(redisKey);
+    }
+
+    /*
+     * 진행 중인 트래킹 세션 조회
+     */
+    public TrackingSession getTrackingSession(Integer userId) {
+        String redisKey = getTrackingStatusKey(userId);
+        Map<Object, Object> fields = trackingPresenceService.readSession(redisKey);
+        if (fields.isEmpty()) {
+            throw new InvalidTrackingException();
+        }
+        return TrackingSession.from(redisKey, userId, fields);
+    }
+
+    /*
+     * 위치 수신 시 등산 중 인덱스 갱신 (마지막으로 위치가 있는 포인트 기준)
+     */
+    public void touchPresence(TrackingSession session, List<BattleRecordsForTrackingResponseDto> records) {
+        Double latitude = null;
+        Double longitude = null;
+        if (records != null) {
+            for (int i = records.size() - 1; i >= 0; i--) {
+                BattleRecordsForTrackingResponseDto record = records.get(i);
+                if (record.getLatitude() != null && record.getLongitude() != null) {
+                    latitude = record.getLatitude();
+                    longitude = record.getLongitude();
+                    break;
+                }
+            }
+        }
+        trackingPresenceService.touch(session, latitude, longitude);
+    }
+
+    private TrackingSession validateTrackingSession(Integer userId, Integer mountainId, Integer pathId) {
+        TrackingSession session = getTrackingSession(userId);
+        if (!session.isOn(mountainId, pathId)) {
+            throw new InvalidTrackingException();
+        }
+        return session;
+    }
+
+    // zoom/tolerance에 맞는 상세 단계의 등산로 좌표로 응답 생성
+    private PathForTrackingResponseDto toPathResponse(Path path, RouteOptionRequestDto option) {
+        PathRoutePayload route = pathRouteCache.get(path, option.getZoom(), option.getTolerance());
+        return PathForTrackingResponseDto.from(path, route, GeometryEncoding.from(option.getEncoding()));
+    }
+
+    // 트랜잭션 안이면 커밋 후에, 아니면 바로 실행
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
 
     private String getTrackingStatusKey(Integer userId) {
-        return TRACKING_STATUS_KEY_PREFIX + userId;
+        return TrackingSession.KEY_PREFIX + userId;
     }
 
 }
@@ -0,0 +1,75 @@
+package com.ssafy.ollana.tracking.service;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Redis에 저장된 진행 중인 트래킹 세션 (tracking:{userId} hash)
+ * - mountainId, pathId, startedAt, lastSeenAt(epoch ms), latitude, longitude
+ * - visible : 주변 등산객 검색에 위치를 공개하는지 (공개한 경우만 GEO 인덱스에 등록)
+ */
+@Getter
+public class TrackingSession {
+    static final String KEY_PREFIX = "tracking:";
+
+    static final String FIELD_MOUNTAIN_ID = "mountainId";
+    static final String FIELD_PATH_ID = "pathId";
+    static final String FIELD_STARTED_AT = "startedAt";
+    static final String FIELD_LAST_SEEN_AT = "lastSeenAt";
+    static final String FIELD_LATITUDE = "latitude";
+    static final String FIELD_LONGITUDE = "longitude";
+    static final String FIELD_VISIBLE = "visible";
+
+    private final String redisKey;
+    private final Integer userId;
+    private final Integer mountainId;
+    private final Integer pathId;
+    private final Long startedAt;
+    private final boolean visible;
+
+    private TrackingSession(String redisKey, Integer userId, Integer mountainId, Integer pathId, Long startedAt, boolean visible) {
+        this.redisKey = redisKey;
+        this.userId = userId;
+        this.mountainId = mountainId;
+        this.pathId = pathId;
+        this.startedAt = startedAt;
+        this.visible = visible;
+    }
+
+    public static TrackingSession of(String redisKey, Integer userId, Integer mountainId, Integer pathId,
+                                     long startedAt, boolean visible) {
+        return new TrackingSession(redisKey, userId, mountainId, pathId, startedAt, visible);
+    }
+
+    public static TrackingSession from(String redisKey, Integer userId, Map<Object, Object> fields) {
+        String startedAt = (String) fields.get(FIELD_STARTED_AT);
+        return new TrackingSession(
+                redisKey,
+                userId,
+                Integer.valueOf((String) fields.get(FIELD_MOUNTAIN_ID)),
+                Integer.valueOf((String) fields.get(FIELD_PATH_ID)),
+                startedAt != null ? Long.valueOf(startedAt) : null,
+                parseVisible(fields.get(FIELD_VISIBLE))
+        );
+    }
+
+    static boolean parseVisible(Object value) {
+        return "1".equals(value);
+    }
+
+    public boolean isOn(Integer mountainId, Integer pathId) {
+        return this.mountainId.equals(mountainId) && this.pathId.equals(pathId);
+    }
+
+    Map<String, String> toHash() {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_MOUNTAIN_ID, String.valueOf(mountainId));
+        fields.put(FIELD_PATH_ID, String.valueOf(pathId));
+        fields.put(FIELD_STARTED_AT, String.valueOf(startedAt));
+        fields.put(FIELD_LAST_SEEN_AT, String.valueOf(startedAt));
+        fields.put(FIELD_VISIBLE, visible ? "1" : "0");
+        return fields;
+    }
+}
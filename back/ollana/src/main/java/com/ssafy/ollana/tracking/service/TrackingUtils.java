@@ -1,12 +1,6 @@
 package com.ssafy.ollana.tracking.service;
 
-import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
-import com.ssafy.ollana.mountain.persistent.entity.Mountain;
-import com.ssafy.ollana.mountain.persistent.entity.Path;
-import com.ssafy.ollana.tracking.persistent.entity.HikingLiveRecords;
-import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
 import com.ssafy.ollana.tracking.web.dto.response.LatLngPointResponseDto;
-import com.ssafy.ollana.user.entity.User;
 import org.locationtech.jts.geom.LineString;
 
 import java.util.Arrays;
@@ -34,26 +28,5 @@ public class TrackingUtils {
         return EARTH_RADIUS * c;
     }
 
-    public static List<HikingLiveRecords> toEntities(
-                                                    List<BattleRecordsForTrackingResponseDto> dtos,
-                                                    User user,
-                                                    Mountain mountain,
-                                                    Path path,
-                                                    HikingHistory hikingHistory) {
-        return dtos.stream()
-                .map(dto -> HikingLiveRecords.builder()
-                                             .user(user)
-                                             .mountain(mountain)
-                                             .path(path)
-                                             .hikingHistory(hikingHistory)
-                                             .totalTime(dto.getTime())
-                                             .totalDistance(dto.getDistance())
-                                             .latitude(dto.getLatitude())
-                                             .longitude(dto.getLongitude())
-                                             .heartRate(dto.getHeartRate())
-                                             .build())
-                .toList();
-    }
-
 
 }
@@ -0,0 +1,9 @@
+package com.ssafy.ollana.tracking.service.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class GhostNotFoundException extends BusinessException {
+    public GhostNotFoundException() {
+        super("대결 상대의 등산 기록이 존재하지 않습니다.", "T-005");
+    }
+}
@@ -0,0 +1,9 @@
+package com.ssafy.ollana.tracking.service.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class GhostPathMismatchException extends BusinessException {
+    public GhostPathMismatchException() {
+        super("등산 중인 등산로의 기록만 대결 상대로 사용할 수 있습니다.", "T-009");
+    }
+}
@@ -0,0 +1,9 @@
+package com.ssafy.ollana.tracking.service.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class InvalidLiveMessageException extends BusinessException {
+    public InvalidLiveMessageException() {
+        super("잘못된 실시간 트래킹 메시지 형식입니다.", "T-006");
+    }
+}
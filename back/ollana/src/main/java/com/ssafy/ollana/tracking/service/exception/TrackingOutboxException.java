@@ -0,0 +1,9 @@
+package com.ssafy.ollana.tracking.service.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class TrackingOutboxException extends BusinessException {
+    public TrackingOutboxException() {
+        super("등산 기록 전송을 준비하는 중 오류가 발생했습니다.", "T-007");
+    }
+}
@@ -0,0 +1,9 @@
+package com.ssafy.ollana.tracking.service.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class TrackingRecordsBufferException extends BusinessException {
+    public TrackingRecordsBufferException() {
+        super("등산 기록을 임시 저장하는 중 오류가 발생했습니다.", "T-004");
+    }
+}
@@ -0,0 +1,9 @@
+package com.ssafy.ollana.tracking.service.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class TrackingRecordsLimitException extends BusinessException {
+    public TrackingRecordsLimitException() {
+        super("전송할 수 있는 등산 기록 개수를 초과했습니다.", "T-010");
+    }
+}
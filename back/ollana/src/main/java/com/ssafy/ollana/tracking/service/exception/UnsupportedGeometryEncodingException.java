@@ -0,0 +1,9 @@
+package com.ssafy.ollana.tracking.service.exception;
+
+import com.ssafy.ollana.common.exception.BusinessException;
+
+public class UnsupportedGeometryEncodingException extends BusinessException {
+    public UnsupportedGeometryEncodingException() {
+        super("지원하지 않는 좌표 전송 방식입니다.", "T-008");
+    }
+}
@@ -0,0 +1,167 @@
+package com.ssafy.ollana.tracking.service.route;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ollana.common.util.LruCache;
+import com.ssafy.ollana.footprint.service.exception.NotFoundException;
+import com.ssafy.ollana.mountain.persistent.entity.Path;
+import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
+import com.ssafy.ollana.mountain.service.MountainCatalogChangedEvent;
+import com.ssafy.ollana.tracking.service.trace.Polyline;
+import com.ssafy.ollana.tracking.service.trace.TraceColumns;
+import com.ssafy.ollana.tracking.service.trace.TraceSimplifier;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/*
+ * 등산로별 좌표 JSON / encoded polyline 캐시 (pathId + 상세 단계 기준)
+ * - 등산로 좌표는 거의 바뀌지 않으므로 한 번 직렬화한 결과를 재사용
+ * - ETag = 직렬화 결과(JSON / polyline 각각)의 SHA-256 앞 16바이트 (좌표가 같으면 서버가 재시작돼도 같은 값)
+ *
+ * 상세 단계(level of detail)
+ * - 지도 zoom 또는 허용 오차(m)를 2^level m 단계로 내림해 Douglas-Peucker로 축소한 좌표를 따로 캐시
+ * - zoom은 1px에 해당하는 거리(web mercator)를 허용 오차로 사용 (화면에서 구분되지 않는 꼭짓점 제거)
+ * - 둘 다 없거나 1m 미만이면 원본
+ */
+@Component
+public class PathRouteCache {
+
+    public static final int FULL_DETAIL = -1;
+    public static final int MAX_LEVEL = 10;  // 1024m
+
+    // zoom 0, 적도 기준 1px 거리(m)
+    private static final double METERS_PER_PIXEL_AT_ZOOM_0 = 156_543.03392;
+
+    private static final PathRoutePayload EMPTY = new PathRoutePayload("[]", "", etag("[]"), etag(""), 0);
+
+    private final PathRepository pathRepository;
+    private final JsonFactory jsonFactory;
+    private final LruCache<Long, PathRoutePayload> payloadCache;
+
+    public PathRouteCache(PathRepository pathRepository,
+                          ObjectMapper objectMapper,
+                          @Value("${tracking.route.payload-cache-size:1000}") int cacheSize) {
+        this.pathRepository = pathRepository;
+        this.jsonFactory = objectMapper.getFactory();
+        this.payloadCache = new LruCache<>(cacheSize);
+    }
+
+    public PathRoutePayload get(Path path) {
+        return get(path, FULL_DETAIL);
+    }
+
+    public PathRoutePayload get(Path path, Integer zoom, Double tolerance) {
+        if (path.getRoute() == null || path.getRoute().isEmpty()) {
+            return EMPTY;
+        }
+        return get(path, level(zoom, tolerance, path.getRoute().getCoordinateN(0).getY()));
+    }
+
+    public PathRoutePayload get(Integer pathId, Integer zoom, Double tolerance) {
+        if (zoom == null && tolerance == null) {
+            PathRoutePayload cached = payloadCache.get(key(pathId, FULL_DETAIL));
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Path path = pathRepository.findById(pathId).orElseThrow(NotFoundException::new);
+        return get(path, zoom, tolerance);
+    }
+
+    // 등산로 좌표가 추가/변경된 경우 (어떤 등산로가 바뀌었는지 알 수 없으므로 전체 초기화)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(MountainCatalogChangedEvent event) {
+        payloadCache.clear();
+    }
+
+    /*
+     * zoom/허용 오차(m) -> 상세 단계 (허용 오차 2^level m, FULL_DETAIL이면 원본)
+     * - 허용 오차가 있으면 zoom보다 우선
+     */
+    public static int level(Integer zoom, Double tolerance, double latitude) {
+        double meters;
+        if (tolerance != null && tolerance > 0) {
+            meters = tolerance;
+        } else if (zoom != null && zoom >= 0) {
+            meters = METERS_PER_PIXEL_AT_ZOOM_0 * Math.cos(Math.toRadians(latitude)) / Math.pow(2, Math.min(zoom, 30));
+        } else {
+            return FULL_DETAIL;
+        }
+        if (meters < 1) {
+            return FULL_DETAIL;
+        }
+        return Math.min((int) Math.floor(Math.log(meters) / Math.log(2)), MAX_LEVEL);
+    }
+
+    private PathRoutePayload get(Path path, int level) {
+        if (path.getRoute() == null || path.getRoute().isEmpty()) {
+            return EMPTY;
+        }
+        return payloadCache.computeIfAbsent(key(path.getId(), level), key -> serialize(path.getRoute(), level));
+    }
+
+    private static long key(Integer pathId, int level) {
+        return ((long) pathId << 4) | (level + 1);
+    }
+
+    private PathRoutePayload serialize(LineString route, int level) {
+        Coordinate[] coordinates = route.getCoordinates();
+        int n = coordinates.length;
+        double[] latitude = new double[n];
+        double[] longitude = new double[n];
+        for (int i = 0; i < n; i++) {
+            latitude[i] = coordinates[i].getY();   // Y = latitude
+            longitude[i] = coordinates[i].getX();  // X = longitude
+        }
+
+        if (level != FULL_DETAIL) {
+            // 위도/경도만 채운 TraceColumns로 축소 (시간/심박수 조건은 사용하지 않음)
+            TraceColumns simplified = TraceSimplifier.simplify(
+                    new TraceColumns(n, new int[n], new double[n], latitude, longitude, new int[n]),
+                    (double) (1 << level), null, 0);
+            n = simplified.getSize();
+            latitude = simplified.getLatitude();
+            longitude = simplified.getLongitude();
+        }
+
+        StringWriter writer = new StringWriter(n * 48);
+        try (JsonGenerator gen = jsonFactory.createGenerator(writer)) {
+            gen.writeStartArray();
+            for (int i = 0; i < n; i++) {
+                gen.writeStartObject();
+                gen.writeNumberField("latitude", latitude[i]);
+                gen.writeNumberField("longitude", longitude[i]);
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String json = writer.toString();
+        String polyline = Polyline.encode(latitude, longitude, n);
+        return new PathRoutePayload(json, polyline, etag(json), etag(polyline), n);
+    }
+
+    private static String etag(String body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
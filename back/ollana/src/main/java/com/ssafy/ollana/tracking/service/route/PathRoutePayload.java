@@ -0,0 +1,57 @@
+package com.ssafy.ollana.tracking.service.route;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.ssafy.ollana.tracking.service.trace.GeometryEncoding;
+
+import java.io.IOException;
+
+/*
+ * 직렬화가 끝난 등산로 좌표 JSON ([{"latitude":..,"longitude":..}, ...]) + encoded polyline + 내용 해시(ETag)
+ * - 응답 본문이 전송 방식마다 다르므로 ETag도 JSON / polyline 각각 계산
+ * - 응답 작성 시 좌표 DTO를 만들지 않고 캐시된 UTF-8 바이트를 그대로 씀
+ * - 기존 List<LatLngPointResponseDto> 응답과 같은 형태
+ */
+public class PathRoutePayload implements JsonSerializable {
+
+    private final SerializedString json;
+    private final String polyline;
+    private final String jsonEtag;
+    private final String polylineEtag;
+    private final int pointCount;
+
+    PathRoutePayload(String json, String polyline, String jsonEtag, String polylineEtag, int pointCount) {
+        this.json = new SerializedString(json);
+        this.polyline = polyline;
+        this.jsonEtag = jsonEtag;
+        this.polylineEtag = polylineEtag;
+        this.pointCount = pointCount;
+        // UTF-8 바이트를 미리 만들어 둠 (이후 요청에서는 복사만 함)
+        this.json.asUnquotedUTF8();
+    }
+
+    public String getPolyline() {
+        return polyline;
+    }
+
+    public String getEtag(GeometryEncoding encoding) {
+        return encoding == GeometryEncoding.COMPACT ? polylineEtag : jsonEtag;
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
@@ -0,0 +1,157 @@
+package com.ssafy.ollana.tracking.service.route;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/*
+ * 등산로(Path.route) 1개에 대한 사전 계산 결과
+ * - 첫 좌표 기준 등거리 투영(m) 좌표, 꼭짓점까지의 누적 거리
+ * - 선분 STRtree (item = 선분 시작 index)
+ *
+ * GPS 위치를 가장 가까운 선분에 투영해 진행 거리/남은 거리/이탈 거리를 계산 (트리 탐색 O(log n))
+ * 생성 후에는 읽기만 하므로 여러 요청에서 공유 가능
+ */
+public class RouteGeometry {
+
+    private static final double EARTH_RADIUS = 6_371_000d;
+
+    private final double originLatitude;
+    private final double originLongitude;
+    private final double cos;
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] cumulative;
+    private final STRtree segments;
+
+    private RouteGeometry(double originLatitude, double originLongitude, double[] x, double[] y, double[] cumulative) {
+        this.originLatitude = originLatitude;
+        this.originLongitude = originLongitude;
+        this.cos = Math.cos(Math.toRadians(originLatitude));
+        this.x = x;
+        this.y = y;
+        this.cumulative = cumulative;
+        this.segments = buildIndex(x, y);
+    }
+
+    public static RouteGeometry of(LineString route) {
+        Coordinate[] coordinates = route.getCoordinates();
+        int n = coordinates.length;
+        double originLatitude = coordinates[0].y;
+        double originLongitude = coordinates[0].x;
+        double cos = Math.cos(Math.toRadians(originLatitude));
+
+        double[] x = new double[n];
+        double[] y = new double[n];
+        double[] cumulative = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = Math.toRadians(coordinates[i].x - originLongitude) * EARTH_RADIUS * cos;
+            y[i] = Math.toRadians(coordinates[i].y - originLatitude) * EARTH_RADIUS;
+            if (i > 0) {
+                cumulative[i] = cumulative[i - 1] + Math.hypot(x[i] - x[i - 1], y[i] - y[i - 1]);
+            }
+        }
+        return new RouteGeometry(originLatitude, originLongitude, x, y, cumulative);
+    }
+
+    public double getLength() {
+        return cumulative[cumulative.length - 1];
+    }
+
+    public double getEndLatitude() {
+        return toLatitude(y[y.length - 1]);
+    }
+
+    public double getEndLongitude() {
+        return toLongitude(x[x.length - 1]);
+    }
+
+    /*
+     * GPS 위치를 등산로에 투영
+     */
+    public RouteProgress snap(double latitude, double longitude) {
+        double px = Math.toRadians(longitude - originLongitude) * EARTH_RADIUS * cos;
+        double py = Math.toRadians(latitude - originLatitude) * EARTH_RADIUS;
+
+        int segment = x.length == 1 ? 0 : nearestSegment(px, py);
+        double t = x.length == 1 ? 0 : projection(segment, px, py);
+
+        int next = Math.min(segment + 1, x.length - 1);
+        double sx = x[segment] + (x[next] - x[segment]) * t;
+        double sy = y[segment] + (y[next] - y[segment]) * t;
+
+        double along = cumulative[segment] + (cumulative[next] - cumulative[segment]) * t;
+        double length = getLength();
+
+        return RouteProgress.builder()
+                .snappedLatitude(toLatitude(sy))
+                .snappedLongitude(toLongitude(sx))
+                .distanceAlong(along)
+                .remainingDistance(length - along)
+                .percent(length > 0 ? along / length * 100 : 100)
+                .deviation(Math.hypot(px - sx, py - sy))
+                .segmentIndex(segment)
+                .build();
+    }
+
+    private int nearestSegment(double px, double py) {
+        Object nearest = segments.nearestNeighbour(new Envelope(px, px, py, py), new double[]{px, py}, new SegmentDistance());
+        return (Integer) nearest;
+    }
+
+    // 선분 위 투영 위치 비율 (0 ~ 1)
+    private double projection(int i, double px, double py) {
+        double dx = x[i + 1] - x[i];
+        double dy = y[i + 1] - y[i];
+        double lengthSq = dx * dx + dy * dy;
+        if (lengthSq == 0) {
+            return 0;
+        }
+        double t = ((px - x[i]) * dx + (py - y[i]) * dy) / lengthSq;
+        return Math.max(0, Math.min(1, t));
+    }
+
+    private double segmentDistance(int i, double px, double py) {
+        double t = projection(i, px, py);
+        double sx = x[i] + (x[i + 1] - x[i]) * t;
+        double sy = y[i] + (y[i + 1] - y[i]) * t;
+        return Math.hypot(px - sx, py - sy);
+    }
+
+    private double toLatitude(double py) {
+        return originLatitude + Math.toDegrees(py / EARTH_RADIUS);
+    }
+
+    private double toLongitude(double px) {
+        return originLongitude + Math.toDegrees(px / (EARTH_RADIUS * cos));
+    }
+
+    private static STRtree buildIndex(double[] x, double[] y) {
+        STRtree tree = new STRtree();
+        for (int i = 0; i + 1 < x.length; i++) {
+            tree.insert(new Envelope(x[i], x[i + 1], y[i], y[i + 1]), i);
+        }
+        tree.build();
+        return tree;
+    }
+
+    // 트리 탐색 시 (조회 위치, 선분) 사이 실제 거리
+    private class SegmentDistance implements ItemDistance {
+        @Override
+        public double distance(ItemBoundable a, ItemBoundable b) {
+            Object itemA = a.getItem();
+            Object itemB = b.getItem();
+            if (itemA instanceof double[] point && itemB instanceof Integer segment) {
+                return segmentDistance(segment, point[0], point[1]);
+            }
+            if (itemB instanceof double[] point && itemA instanceof Integer segment) {
+                return segmentDistance(segment, point[0], point[1]);
+            }
+            return Double.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.ollana.tracking.service.route;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+ * 등산로 기준 진행 상황 (거리 단위 m)
+ */
+@Getter
+@Builder
+public class RouteProgress {
+    private double snappedLatitude;
+    private double snappedLongitude;
+    private double distanceAlong;       // 시작점부터 투영 위치까지 등산로 거리
+    private double remainingDistance;   // 투영 위치부터 끝 지점까지 등산로 거리
+    private double percent;
+    private double deviation;           // 등산로에서 벗어난 거리
+    private int segmentIndex;
+}
@@ -0,0 +1,47 @@
+package com.ssafy.ollana.tracking.service.route;
+
+import com.ssafy.ollana.common.util.LruCache;
+import com.ssafy.ollana.footprint.service.exception.NotFoundException;
+import com.ssafy.ollana.mountain.persistent.entity.Path;
+import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
+import com.ssafy.ollana.mountain.service.MountainCatalogChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+ * 등산로별 RouteGeometry를 만들어 두고 GPS 위치의 진행 상황 계산 (PostGIS 조회 없음)
+ */
+@Component
+public class RouteProgressEngine {
+
+    private final PathRepository pathRepository;
+    private final LruCache<Integer, RouteGeometry> routeCache;
+
+    public RouteProgressEngine(PathRepository pathRepository,
+                               @Value("${tracking.route.cache-size:500}") int cacheSize) {
+        this.pathRepository = pathRepository;
+        this.routeCache = new LruCache<>(cacheSize);
+    }
+
+    public RouteGeometry getRoute(Integer pathId) {
+        return routeCache.computeIfAbsent(pathId, id -> {
+            Path path = pathRepository.findById(id).orElseThrow(NotFoundException::new);
+            if (path.getRoute() == null || path.getRoute().isEmpty()) {
+                throw new NotFoundException();
+            }
+            return RouteGeometry.of(path.getRoute());
+        });
+    }
+
+    public RouteProgress snap(Integer pathId, double latitude, double longitude) {
+        return getRoute(pathId).snap(latitude, longitude);
+    }
+
+    // 등산로 좌표가 추가/변경된 경우 (어떤 등산로가 바뀌었는지 알 수 없으므로 전체 초기화)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(MountainCatalogChangedEvent event) {
+        routeCache.clear();
+    }
+}
@@ -0,0 +1,71 @@
+package com.ssafy.ollana.tracking.service.trace;
+
+import java.util.Base64;
+
+/*
+ * 등산 기록(TraceColumns) <-> EncodedTrace 변환
+ *
+ * columns = base64url(
+ *     포인트 수, 위치 존재 bitmap, 시간 delta, 거리 delta, 심박수 delta
+ * )
+ * - 컬럼 인코딩은 HikingTraceCodec과 동일 (거리는 소수점 셋째 자리까지)
+ * - 위도/경도는 polyline으로 따로 보내므로 columns에는 없음
+ */
+public class CompactTraceCodec {
+
+    // 한 번의 등산 기록으로 받을 수 있는 최대 포인트 수 (24시간 동안 1초 간격으로 기록해도 넘지 않는 값)
+    public static final int MAX_POINTS = 100_000;
+
+    public static EncodedTrace encode(TraceColumns trace) {
+        VarIntWriter writer = new VarIntWriter(trace.getSize() * 4 + 16);
+        writer.writeUnsigned(trace.getSize());
+        HikingTraceCodec.writeLocationBitmap(writer, trace);
+        HikingTraceCodec.writeTimes(writer, trace);
+        HikingTraceCodec.writeDistances(writer, trace);
+        HikingTraceCodec.writeHeartRates(writer, trace);
+
+        String columns = Base64.getUrlEncoder().withoutPadding().encodeToString(writer.toByteArray());
+        String polyline = Polyline.encode(trace.getLatitude(), trace.getLongitude(), trace.getSize());
+        return new EncodedTrace(trace.getSize(), polyline, columns);
+    }
+
+    public static TraceColumns decode(String polyline, String columns) {
+        if (columns == null || columns.isEmpty()) {
+            return TraceColumns.empty();
+        }
+
+        VarIntReader reader = new VarIntReader(Base64.getUrlDecoder().decode(columns));
+        long size = reader.readUnsigned();
+        // 포인트마다 시간/거리/심박수 최소 1바이트씩 필요하므로 남은 바이트보다 많을 수 없음 (배열 할당 전에 검증)
+        if (size < 0 || size > MAX_POINTS || size > reader.remaining()) {
+            throw new IllegalArgumentException("trace 포인트 수가 올바르지 않습니다.");
+        }
+        int n = (int) size;
+        boolean[] located = HikingTraceCodec.readLocationBitmap(reader, n);
+        int[] time = HikingTraceCodec.readTimes(reader, n);
+        double[] distance = HikingTraceCodec.readDistances(reader, n);
+        int[] heartRate = HikingTraceCodec.readHeartRates(reader, n);
+
+        double[] coordinates = Polyline.decode(polyline != null ? polyline : "");
+        double[] latitude = new double[n];
+        double[] longitude = new double[n];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            if (!located[i]) {
+                latitude[i] = Double.NaN;
+                longitude[i] = Double.NaN;
+                continue;
+            }
+            if (k + 1 >= coordinates.length) {
+                throw new IllegalArgumentException("polyline 좌표 수가 위치 정보 수와 다릅니다.");
+            }
+            latitude[i] = coordinates[k++];
+            longitude[i] = coordinates[k++];
+        }
+        if (k != coordinates.length) {
+            throw new IllegalArgumentException("polyline 좌표 수가 위치 정보 수와 다릅니다.");
+        }
+
+        return new TraceColumns(n, time, distance, latitude, longitude, heartRate);
+    }
+}
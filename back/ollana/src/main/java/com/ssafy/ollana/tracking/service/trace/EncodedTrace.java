@@ -0,0 +1,21 @@
+package com.ssafy.ollana.tracking.service.trace;
+
+import lombok.Getter;
+
+/*
+ * 압축 전송용 등산 기록
+ * - polyline : 위치가 있는 포인트의 위도/경도 (Google encoded polyline)
+ * - columns  : 포인트 수, 위치 존재 bitmap, 시간/거리/심박수 delta (zigzag varint, base64url)
+ */
+@Getter
+public class EncodedTrace {
+    private final int size;
+    private final String polyline;
+    private final String columns;
+
+    public EncodedTrace(int size, String polyline, String columns) {
+        this.size = size;
+        this.polyline = polyline;
+        this.columns = columns;
+    }
+}
@@ -0,0 +1,25 @@
+package com.ssafy.ollana.tracking.service.trace;
+
+import com.ssafy.ollana.tracking.service.exception.UnsupportedGeometryEncodingException;
+
+/*
+ * 등산로/등산 기록 좌표 전송 방식
+ * - JSON    : [{latitude, longitude, ...}, ...] (기본값)
+ * - COMPACT : 위도/경도는 encoded polyline, 시간/거리/심박수는 delta varint (EncodedTrace)
+ */
+public enum GeometryEncoding {
+    JSON,
+    COMPACT;
+
+    public static GeometryEncoding from(String value) {
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        for (GeometryEncoding encoding : values()) {
+            if (encoding.name().equalsIgnoreCase(value.trim())) {
+                return encoding;
+            }
+        }
+        throw new UnsupportedGeometryEncodingException();
+    }
+}
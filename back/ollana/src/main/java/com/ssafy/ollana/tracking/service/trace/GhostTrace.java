@@ -0,0 +1,117 @@
+package com.ssafy.ollana.tracking.service.trace;
+
+import com.ssafy.ollana.tracking.web.dto.response.GhostPositionResponseDto;
+
+import java.util.Arrays;
+
+/*
+ * 대결 상대(ghost) 기록을 시간순 primitive 배열로 보관하고 경과 시간 기준으로 위치를 보간
+ * - 거리/심박수는 전체 포인트, 위도/경도는 위치가 있는 포인트만 따로 보관
+ * - 조회는 이진 탐색 O(log n), 생성 후에는 읽기만 하므로 여러 요청에서 공유 가능
+ */
+public class GhostTrace {
+
+    private final int[] time;
+    private final double[] distance;
+    private final int[] heartRate;
+
+    private final int[] locationTime;
+    private final double[] latitude;
+    private final double[] longitude;
+
+    private GhostTrace(int[] time, double[] distance, int[] heartRate,
+                       int[] locationTime, double[] latitude, double[] longitude) {
+        this.time = time;
+        this.distance = distance;
+        this.heartRate = heartRate;
+        this.locationTime = locationTime;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static GhostTrace from(TraceColumns columns) {
+        // 이진 탐색/총 시간 계산은 시간순 정렬을 전제로 함 (이전에 저장된 기록은 정렬되지 않았을 수 있음)
+        TraceColumns trace = columns.sortedByTime();
+        int n = trace.getSize();
+        int located = 0;
+        for (int i = 0; i < n; i++) {
+            if (trace.hasLocation(i)) located++;
+        }
+
+        int[] locationTime = new int[located];
+        double[] latitude = new double[located];
+        double[] longitude = new double[located];
+        int j = 0;
+        for (int i = 0; i < n; i++) {
+            if (!trace.hasLocation(i)) continue;
+            locationTime[j] = trace.getTime()[i];
+            latitude[j] = trace.getLatitude()[i];
+            longitude[j] = trace.getLongitude()[i];
+            j++;
+        }
+
+        return new GhostTrace(trace.getTime(), trace.getDistance(), trace.getHeartRate(),
+                              locationTime, latitude, longitude);
+    }
+
+    public boolean isEmpty() {
+        return time.length == 0;
+    }
+
+    public int getTotalTime() {
+        return isEmpty() ? 0 : time[time.length - 1];
+    }
+
+    public double getTotalDistance() {
+        return isEmpty() ? 0 : distance[distance.length - 1];
+    }
+
+    /*
+     * 경과 시간(초)의 ghost 위치
+     * 기록 범위를 벗어나면 시작/끝 지점으로 고정
+     */
+    public GhostPositionResponseDto positionAt(int seconds) {
+        GhostPositionResponseDto.GhostPositionResponseDtoBuilder builder = GhostPositionResponseDto.builder()
+                .time(seconds)
+                .finished(seconds >= getTotalTime());
+        if (isEmpty()) {
+            return builder.build();
+        }
+
+        int i = lowerIndex(time, seconds);
+        double ratio = ratio(time, i, seconds);
+        builder.distance(lerp(distance[i], distance[Math.min(i + 1, time.length - 1)], ratio))
+               .heartRate((int) Math.round(lerp(heartRate[i], heartRate[Math.min(i + 1, time.length - 1)], ratio)));
+
+        if (locationTime.length > 0) {
+            int k = lowerIndex(locationTime, seconds);
+            double locationRatio = ratio(locationTime, k, seconds);
+            int next = Math.min(k + 1, locationTime.length - 1);
+            builder.latitude(lerp(latitude[k], latitude[next], locationRatio))
+                   .longitude(lerp(longitude[k], longitude[next], locationRatio));
+        }
+        return builder.build();
+    }
+
+    // times[i] <= seconds 인 마지막 index (seconds가 첫 시간보다 작으면 0)
+    private static int lowerIndex(int[] times, int seconds) {
+        int found = Arrays.binarySearch(times, seconds);
+        if (found >= 0) {
+            // 같은 시간이 여러 개면 마지막 것을 사용
+            while (found + 1 < times.length && times[found + 1] == seconds) found++;
+            return found;
+        }
+        return Math.max(0, -found - 2);
+    }
+
+    private static double ratio(int[] times, int i, int seconds) {
+        if (i + 1 >= times.length || seconds <= times[i]) {
+            return 0;
+        }
+        return (double) (seconds - times[i]) / (times[i + 1] - times[i]);
+    }
+
+    private static double lerp(double from, double to, double ratio) {
+        return from + (to - from) * ratio;
+    }
+}
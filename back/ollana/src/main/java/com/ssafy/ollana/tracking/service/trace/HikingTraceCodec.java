@@ -0,0 +1,194 @@
+package com.ssafy.ollana.tracking.service.trace;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/*
+ * 등산 기록(TraceColumns) <-> 압축 바이너리 변환
+ *
+ * [버전 1 byte] + deflate(
+ *     포인트 수,
+ *     시간 delta, 거리 delta, 위치 존재 bitmap, 위도 delta, 경도 delta, 심박수 delta
+ * )
+ * - 모든 값은 정수로 양자화한 뒤 이전 값과의 차이를 zigzag varint로 기록
+ * - 거리는 소수점 셋째 자리, 위도/경도는 소수점 여섯째 자리(약 0.1m)까지 보존
+ */
+public class HikingTraceCodec {
+
+    public static final int VERSION = 1;
+
+    private static final double DISTANCE_SCALE = 1_000d;
+    private static final double COORDINATE_SCALE = 1_000_000d;
+
+    public static byte[] encode(TraceColumns trace) {
+        VarIntWriter writer = new VarIntWriter(trace.getSize() * 8 + 16);
+        writeColumns(writer, trace);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(writer.size() / 2 + 16);
+        out.write(VERSION);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream deflated = new DeflaterOutputStream(out, deflater)) {
+            deflated.write(writer.buffer(), 0, writer.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    public static TraceColumns decode(byte[] data) {
+        if (data == null || data.length == 0) {
+            return TraceColumns.empty();
+        }
+        if (data[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 trace 버전입니다: " + data[0]);
+        }
+
+        byte[] raw;
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(data, 1, data.length - 1))) {
+            raw = in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return readColumns(new VarIntReader(raw));
+    }
+
+    // 압축 전 컬럼 인코딩
+    static void writeColumns(VarIntWriter writer, TraceColumns trace) {
+        writer.writeUnsigned(trace.getSize());
+        writeTimes(writer, trace);
+        writeDistances(writer, trace);
+        writeLocationBitmap(writer, trace);
+        writeCoordinates(writer, trace, trace.getLatitude());
+        writeCoordinates(writer, trace, trace.getLongitude());
+        writeHeartRates(writer, trace);
+    }
+
+    static TraceColumns readColumns(VarIntReader reader) {
+        int n = (int) reader.readUnsigned();
+        int[] time = readTimes(reader, n);
+        double[] distance = readDistances(reader, n);
+        boolean[] located = readLocationBitmap(reader, n);
+        double[] latitude = new double[n];
+        double[] longitude = new double[n];
+        readCoordinates(reader, located, latitude);
+        readCoordinates(reader, located, longitude);
+        int[] heartRate = readHeartRates(reader, n);
+
+        return new TraceColumns(n, time, distance, latitude, longitude, heartRate);
+    }
+
+    // 컬럼별 인코딩 (CompactTraceCodec에서도 사용)
+    static void writeTimes(VarIntWriter writer, TraceColumns trace) {
+        int[] time = trace.getTime();
+        int prevTime = 0;
+        for (int i = 0; i < trace.getSize(); i++) {
+            writer.writeSigned(time[i] - prevTime);
+            prevTime = time[i];
+        }
+    }
+
+    static void writeDistances(VarIntWriter writer, TraceColumns trace) {
+        double[] distance = trace.getDistance();
+        long prevDistance = 0;
+        for (int i = 0; i < trace.getSize(); i++) {
+            long q = Math.round(distance[i] * DISTANCE_SCALE);
+            writer.writeSigned(q - prevDistance);
+            prevDistance = q;
+        }
+    }
+
+    // 위치 존재 여부 bitmap
+    static void writeLocationBitmap(VarIntWriter writer, TraceColumns trace) {
+        int n = trace.getSize();
+        for (int i = 0; i < n; i += 8) {
+            int bits = 0;
+            for (int b = 0; b < 8 && i + b < n; b++) {
+                if (trace.hasLocation(i + b)) {
+                    bits |= 1 << b;
+                }
+            }
+            writer.writeByte(bits);
+        }
+    }
+
+    static void writeHeartRates(VarIntWriter writer, TraceColumns trace) {
+        int[] heartRate = trace.getHeartRate();
+        int prevHeartRate = 0;
+        for (int i = 0; i < trace.getSize(); i++) {
+            writer.writeSigned(heartRate[i] - prevHeartRate);
+            prevHeartRate = heartRate[i];
+        }
+    }
+
+    static int[] readTimes(VarIntReader reader, int n) {
+        int[] time = new int[n];
+        int prevTime = 0;
+        for (int i = 0; i < n; i++) {
+            prevTime += (int) reader.readSigned();
+            time[i] = prevTime;
+        }
+        return time;
+    }
+
+    static double[] readDistances(VarIntReader reader, int n) {
+        double[] distance = new double[n];
+        long prevDistance = 0;
+        for (int i = 0; i < n; i++) {
+            prevDistance += reader.readSigned();
+            distance[i] = prevDistance / DISTANCE_SCALE;
+        }
+        return distance;
+    }
+
+    static boolean[] readLocationBitmap(VarIntReader reader, int n) {
+        boolean[] located = new boolean[n];
+        for (int i = 0; i < n; i += 8) {
+            int bits = reader.readByte();
+            for (int b = 0; b < 8 && i + b < n; b++) {
+                located[i + b] = (bits & (1 << b)) != 0;
+            }
+        }
+        return located;
+    }
+
+    static int[] readHeartRates(VarIntReader reader, int n) {
+        int[] heartRate = new int[n];
+        int prevHeartRate = 0;
+        for (int i = 0; i < n; i++) {
+            prevHeartRate += (int) reader.readSigned();
+            heartRate[i] = prevHeartRate;
+        }
+        return heartRate;
+    }
+
+    private static void writeCoordinates(VarIntWriter writer, TraceColumns trace, double[] values) {
+        long prev = 0;
+        for (int i = 0; i < trace.getSize(); i++) {
+            if (!trace.hasLocation(i)) {
+                continue;
+            }
+            long q = Math.round(values[i] * COORDINATE_SCALE);
+            writer.writeSigned(q - prev);
+            prev = q;
+        }
+    }
+
+    private static void readCoordinates(VarIntReader reader, boolean[] located, double[] values) {
+        long prev = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (!located[i]) {
+                values[i] = Double.NaN;
+                continue;
+            }
+            prev += reader.readSigned();
+            values[i] = prev / COORDINATE_SCALE;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ssafy.ollana.tracking.service.trace;
+
+import java.util.Arrays;
+
+/*
+ * Google encoded polyline (정밀도 1e-5, 약 1m)
+ * - 위도/경도를 정수로 양자화한 뒤 이전 좌표와의 차이를 5bit 단위로 ASCII 문자에 기록
+ * - 클라이언트 지도 라이브러리(PolyUtil.decode 등)로 바로 디코딩 가능
+ */
+public class Polyline {
+
+    private static final double SCALE = 100_000d;
+
+    /*
+     * 위치가 없는(NaN) 포인트는 건너뜀
+     */
+    public static String encode(double[] latitude, double[] longitude, int size) {
+        StringBuilder sb = new StringBuilder(size * 6);
+        long prevLatitude = 0;
+        long prevLongitude = 0;
+        for (int i = 0; i < size; i++) {
+            if (Double.isNaN(latitude[i]) || Double.isNaN(longitude[i])) {
+                continue;
+            }
+            long lat = Math.round(latitude[i] * SCALE);
+            long lng = Math.round(longitude[i] * SCALE);
+            appendValue(sb, lat - prevLatitude);
+            appendValue(sb, lng - prevLongitude);
+            prevLatitude = lat;
+            prevLongitude = lng;
+        }
+        return sb.toString();
+    }
+
+    /*
+     * [위도0, 경도0, 위도1, 경도1, ...]
+     */
+    public static double[] decode(String polyline) {
+        double[] values = new double[Math.max(polyline.length(), 2)];
+        int count = 0;
+        long latitude = 0;
+        long longitude = 0;
+
+        int[] position = {0};
+        while (position[0] < polyline.length()) {
+            latitude += readValue(polyline, position);
+            longitude += readValue(polyline, position);
+            if (count + 2 > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[count++] = latitude / SCALE;
+            values[count++] = longitude / SCALE;
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    private static void appendValue(StringBuilder sb, long value) {
+        long v = value < 0 ? ~(value << 1) : value << 1;
+        while (v >= 0x20) {
+            sb.append((char) ((0x20 | (v & 0x1F)) + 63));
+            v >>= 5;
+        }
+        sb.append((char) (v + 63));
+    }
+
+    private static long readValue(String polyline, int[] position) {
+        long result = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (position[0] >= polyline.length() || shift > 60) {
+                throw new IllegalArgumentException("polyline 형식이 올바르지 않습니다.");
+            }
+            b = polyline.charAt(position[0]++) - 63;
+            if (b < 0 || b > 0x3F) {
+                throw new IllegalArgumentException("polyline 형식이 올바르지 않습니다.");
+            }
+            result |= (long) (b & 0x1F) << shift;
+            shift += 5;
+        } while (b >= 0x20);
+        return (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+    }
+}
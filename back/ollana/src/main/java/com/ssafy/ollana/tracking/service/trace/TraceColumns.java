@@ -0,0 +1,143 @@
+package com.ssafy.ollana.tracking.service.trace;
+
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/*
+ * 등산 기록을 포인트 객체 대신 컬럼별 primitive 배열로 보관
+ * - 위치가 없는 포인트의 위도/경도는 NaN
+ */
+@Getter
+public class TraceColumns {
+    private final int size;
+    private final int[] time;
+    private final double[] distance;
+    private final double[] latitude;
+    private final double[] longitude;
+    private final int[] heartRate;
+    private final double averageHeartRate;
+    private final int maxHeartRate;
+
+    public TraceColumns(int size, int[] time, double[] distance, double[] latitude, double[] longitude, int[] heartRate) {
+        this(size, time, distance, latitude, longitude, heartRate, sum(heartRate, size), max(heartRate, size));
+    }
+
+    // 심박수 합계/최대값을 이미 계산한 경우 (TraceColumnsBuilder)
+    TraceColumns(int size, int[] time, double[] distance, double[] latitude, double[] longitude, int[] heartRate,
+                 long heartRateSum, int maxHeartRate) {
+        this.size = size;
+        this.time = time;
+        this.distance = distance;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.heartRate = heartRate;
+        this.averageHeartRate = size > 0 ? (double) heartRateSum / size : 0;
+        this.maxHeartRate = maxHeartRate;
+    }
+
+    public static TraceColumns empty() {
+        return new TraceColumns(0, new int[0], new double[0], new double[0], new double[0], new int[0]);
+    }
+
+    public static TraceColumns from(List<BattleRecordsForTrackingResponseDto> records) {
+        TraceColumnsBuilder builder = new TraceColumnsBuilder(records.size());
+        for (BattleRecordsForTrackingResponseDto record : records) {
+            builder.add(record.getTime(), record.getDistance(), record.getLatitude(), record.getLongitude(), record.getHeartRate());
+        }
+        return builder.build();
+    }
+
+    public boolean hasLocation(int i) {
+        return !Double.isNaN(latitude[i]) && !Double.isNaN(longitude[i]);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 위치가 있는 마지막 포인트 index (없으면 -1)
+    public int lastLocatedIndex() {
+        for (int i = size - 1; i >= 0; i--) {
+            if (hasLocation(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * 시간순으로 정렬된 기록 (클라이언트가 보낸 순서가 시간순이 아닐 수 있음)
+     * 이미 정렬돼 있으면 그대로 반환, 같은 시간은 들어온 순서 유지
+     */
+    public TraceColumns sortedByTime() {
+        boolean sorted = true;
+        for (int i = 1; i < size && sorted; i++) {
+            sorted = time[i - 1] <= time[i];
+        }
+        if (sorted) {
+            return this;
+        }
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> time[i]));
+
+        int[] sortedTime = new int[size];
+        double[] sortedDistance = new double[size];
+        double[] sortedLatitude = new double[size];
+        double[] sortedLongitude = new double[size];
+        int[] sortedHeartRate = new int[size];
+        for (int i = 0; i < size; i++) {
+            int from = order[i];
+            sortedTime[i] = time[from];
+            sortedDistance[i] = distance[from];
+            sortedLatitude[i] = latitude[from];
+            sortedLongitude[i] = longitude[from];
+            sortedHeartRate[i] = heartRate[from];
+        }
+        return new TraceColumns(size, sortedTime, sortedDistance, sortedLatitude, sortedLongitude, sortedHeartRate);
+    }
+
+    public List<BattleRecordsForTrackingResponseDto> toRecords() {
+        List<BattleRecordsForTrackingResponseDto> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean located = hasLocation(i);
+            records.add(BattleRecordsForTrackingResponseDto.builder()
+                    .time(time[i])
+                    .distance(distance[i])
+                    .heartRate(heartRate[i])
+                    .latitude(located ? latitude[i] : null)
+                    .longitude(located ? longitude[i] : null)
+                    .build());
+        }
+        return records;
+    }
+
+    @Override
+    public String toString() {
+        return "TraceColumns(size=" + size + ")";
+    }
+
+    private static long sum(int[] values, int size) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    private static int max(int[] values, int size) {
+        int max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ssafy.ollana.tracking.service.trace;
+
+import java.util.Arrays;
+
+/*
+ * 포인트를 하나씩 받아 TraceColumns 생성 (배열은 필요할 때 2배씩 확장)
+ * 추가하면서 심박수 합계/최대값을 같이 계산
+ */
+public class TraceColumnsBuilder {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private int size;
+    private int[] time;
+    private double[] distance;
+    private double[] latitude;
+    private double[] longitude;
+    private int[] heartRate;
+
+    private long heartRateSum;
+    private int maxHeartRate;
+
+    public TraceColumnsBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TraceColumnsBuilder(int capacity) {
+        capacity = Math.max(capacity, 1);
+        this.time = new int[capacity];
+        this.distance = new double[capacity];
+        this.latitude = new double[capacity];
+        this.longitude = new double[capacity];
+        this.heartRate = new int[capacity];
+    }
+
+    public void add(int time, double distance, Double latitude, Double longitude, int heartRate) {
+        add(time, distance,
+            latitude != null ? latitude : Double.NaN,
+            longitude != null ? longitude : Double.NaN,
+            heartRate);
+    }
+
+    // 위치가 없으면 NaN
+    public void add(int time, double distance, double latitude, double longitude, int heartRate) {
+        if (size == this.time.length) {
+            grow();
+        }
+        this.time[size] = time;
+        this.distance[size] = distance;
+        this.latitude[size] = latitude;
+        this.longitude[size] = longitude;
+        this.heartRate[size] = heartRate;
+        size++;
+
+        heartRateSum += heartRate;
+        maxHeartRate = Math.max(maxHeartRate, heartRate);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public TraceColumns build() {
+        return new TraceColumns(
+                size,
+                Arrays.copyOf(time, size),
+                Arrays.copyOf(distance, size),
+                Arrays.copyOf(latitude, size),
+                Arrays.copyOf(longitude, size),
+                Arrays.copyOf(heartRate, size),
+                heartRateSum,
+                maxHeartRate
+        );
+    }
+
+    private void grow() {
+        int capacity = time.length * 2;
+        time = Arrays.copyOf(time, capacity);
+        distance = Arrays.copyOf(distance, capacity);
+        latitude = Arrays.copyOf(latitude, capacity);
+        longitude = Arrays.copyOf(longitude, capacity);
+        heartRate = Arrays.copyOf(heartRate, capacity);
+    }
+}
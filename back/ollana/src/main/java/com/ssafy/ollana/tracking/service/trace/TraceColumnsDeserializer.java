@@ -0,0 +1,90 @@
+package com.ssafy.ollana.tracking.service.trace;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+/*
+ * [{ time, distance, heartRate, latitude, longitude }, ...] 배열을 포인트 객체 없이 바로 컬럼 배열로 읽음
+ * - 필드 순서 무관, 모르는 필드는 무시
+ * - heartRate가 없거나 null이면 0 (기존 DTO의 int 필드와 동일)
+ * - 배열 대신 { polyline, columns } 객체(EncodedTrace)가 오면 CompactTraceCodec으로 읽음
+ */
+public class TraceColumnsDeserializer extends JsonDeserializer<TraceColumns> {
+
+    @Override
+    public TraceColumns deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.START_OBJECT) {
+            return readEncoded(p);
+        }
+        TraceColumnsBuilder builder = new TraceColumnsBuilder();
+        readInto(p, builder);
+        return builder.build();
+    }
+
+    @Override
+    public TraceColumns getNullValue(DeserializationContext ctxt) {
+        return TraceColumns.empty();
+    }
+
+    private static TraceColumns readEncoded(JsonParser p) throws IOException {
+        String polyline = null;
+        String columns = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "polyline" -> polyline = p.getValueAsString();
+                case "columns" -> columns = p.getValueAsString();
+                default -> p.skipChildren();
+            }
+        }
+
+        try {
+            return CompactTraceCodec.decode(polyline, columns);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("압축된 등산 기록 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /*
+     * 현재 토큰(START_ARRAY)부터 배열 끝까지 읽어 builder에 추가
+     */
+    public static void readInto(JsonParser p, TraceColumnsBuilder builder) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("등산 기록은 배열이어야 합니다: " + p.currentToken());
+        }
+
+        while (p.nextToken() == JsonToken.START_OBJECT) {
+            int time = 0;
+            double distance = 0;
+            double latitude = Double.NaN;
+            double longitude = Double.NaN;
+            int heartRate = 0;
+
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "time" -> time = p.getValueAsInt();
+                    case "distance" -> distance = p.getValueAsDouble();
+                    case "latitude" -> latitude = p.getValueAsDouble();
+                    case "longitude" -> longitude = p.getValueAsDouble();
+                    case "heartRate" -> heartRate = p.getValueAsInt();
+                    default -> p.skipChildren();
+                }
+            }
+            builder.add(time, distance, latitude, longitude, heartRate);
+        }
+
+        if (p.currentToken() != JsonToken.END_ARRAY) {
+            throw new IOException("등산 기록 형식이 올바르지 않습니다: " + p.currentToken());
+        }
+    }
+}
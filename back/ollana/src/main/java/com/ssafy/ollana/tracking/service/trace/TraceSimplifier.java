@@ -0,0 +1,286 @@
+package com.ssafy.ollana.tracking.service.trace;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.PriorityQueue;
+
+/*
+ * 등산 기록 포인트 축소
+ *
+ * 1. 반드시 남길 포인트 : 시작/끝, 심박수 극값(전역 최대/최소 + 일정 폭 이상 방향이 바뀐 지점)
+ * 2. tolerance(m) 지정 시 위도/경도에 Douglas-Peucker 적용
+ * 3. maxTimeGap(초)보다 시간 간격이 벌어진 구간은 포인트를 다시 채워 시간 기준 보간 오차를 제한
+ * 4. maxPoints 지정 시 Visvalingam(삼각형 면적이 작은 포인트부터 제거)으로 개수를 맞춤
+ *    - 1번 포인트와 3번에서 채운 포인트는 제거하지 않고, 제거하면 maxTimeGap을 넘는 포인트도 남김
+ *    - 이 포인트만으로 maxPoints를 넘으면 결과는 maxPoints보다 많을 수 있음 (시간 간격 제한이 우선)
+ *
+ * - 위도/경도는 첫 위치 기준 등거리 투영(m)으로 계산 (등산로 범위에서는 오차 무시 가능)
+ * - 위치가 없는 포인트는 2번에서 제외되고 3번으로만 남음
+ */
+public class TraceSimplifier {
+
+    private static final double EARTH_RADIUS = 6_371_000d;
+
+    // 이 값 이상 올라갔다 내려간(또는 반대) 지점을 심박수 극값으로 판단
+    private static final int HEART_RATE_SWING = 8;
+
+    public static TraceColumns simplify(TraceColumns trace, Double tolerance, Integer maxPoints, int maxTimeGap) {
+        int n = trace.getSize();
+        boolean useTolerance = tolerance != null && tolerance > 0;
+        boolean useMaxPoints = maxPoints != null && maxPoints > 0 && maxPoints < n;
+        if (n <= 2 || (!useTolerance && !useMaxPoints)) {
+            return trace;
+        }
+
+        double[] x = new double[n];
+        double[] y = new double[n];
+        project(trace, x, y);
+
+        boolean[] pinned = new boolean[n];
+        pinned[0] = true;
+        pinned[n - 1] = true;
+        markHeartRateExtrema(trace.getHeartRate(), pinned);
+
+        boolean[] keep = pinned.clone();
+        // 4번에서 제거하지 않을 포인트 (고정 포인트 + 시간 간격을 채운 포인트)
+        boolean[] required = pinned.clone();
+        if (useTolerance) {
+            douglasPeucker(trace, x, y, tolerance, keep);
+        } else {
+            // 개수 제한만 있으면 위치가 있는 포인트 전체에서 면적 기준으로 제거
+            for (int i = 0; i < n; i++) {
+                keep[i] = keep[i] || trace.hasLocation(i);
+            }
+        }
+        if (maxTimeGap > 0) {
+            fillTimeGaps(trace.getTime(), maxTimeGap, keep, required);
+        }
+        if (useMaxPoints) {
+            visvalingam(trace, x, y, required, keep, maxPoints, maxTimeGap);
+        }
+
+        return select(trace, keep);
+    }
+
+    private static void project(TraceColumns trace, double[] x, double[] y) {
+        double lat0 = Double.NaN;
+        for (int i = 0; i < trace.getSize() && Double.isNaN(lat0); i++) {
+            if (trace.hasLocation(i)) {
+                lat0 = trace.getLatitude()[i];
+            }
+        }
+        double cos = Double.isNaN(lat0) ? 1 : Math.cos(Math.toRadians(lat0));
+
+        for (int i = 0; i < trace.getSize(); i++) {
+            x[i] = Math.toRadians(trace.getLongitude()[i]) * EARTH_RADIUS * cos;
+            y[i] = Math.toRadians(trace.getLatitude()[i]) * EARTH_RADIUS;
+        }
+    }
+
+    private static void markHeartRateExtrema(int[] heartRate, boolean[] pinned) {
+        int n = heartRate.length;
+        int maxIndex = 0;
+        int minIndex = 0;
+        for (int i = 1; i < n; i++) {
+            if (heartRate[i] > heartRate[maxIndex]) maxIndex = i;
+            if (heartRate[i] < heartRate[minIndex]) minIndex = i;
+        }
+        pinned[maxIndex] = true;
+        pinned[minIndex] = true;
+
+        // 현재 방향의 극값 후보를 들고 가다가 반대 방향으로 HEART_RATE_SWING 이상 움직이면 극값으로 확정
+        int high = 0;
+        int low = 0;
+        int candidate = 0;
+        int direction = 0;
+        for (int i = 1; i < n; i++) {
+            if (direction == 0) {
+                if (heartRate[i] > heartRate[high]) high = i;
+                if (heartRate[i] < heartRate[low]) low = i;
+                if (heartRate[high] - heartRate[low] >= HEART_RATE_SWING) {
+                    pinned[Math.min(high, low)] = true;
+                    candidate = Math.max(high, low);
+                    direction = high > low ? 1 : -1;
+                }
+            } else if (direction > 0) {
+                if (heartRate[i] >= heartRate[candidate]) {
+                    candidate = i;
+                } else if (heartRate[candidate] - heartRate[i] >= HEART_RATE_SWING) {
+                    pinned[candidate] = true;
+                    direction = -1;
+                    candidate = i;
+                }
+            } else {
+                if (heartRate[i] <= heartRate[candidate]) {
+                    candidate = i;
+                } else if (heartRate[i] - heartRate[candidate] >= HEART_RATE_SWING) {
+                    pinned[candidate] = true;
+                    direction = 1;
+                    candidate = i;
+                }
+            }
+        }
+    }
+
+    // 위치가 있는 포인트만 대상으로 반복(스택) 방식 Douglas-Peucker
+    private static void douglasPeucker(TraceColumns trace, double[] x, double[] y, double tolerance, boolean[] keep) {
+        int n = trace.getSize();
+        int[] located = new int[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (trace.hasLocation(i)) {
+                located[m++] = i;
+            }
+        }
+        if (m < 3) {
+            for (int k = 0; k < m; k++) keep[located[k]] = true;
+            return;
+        }
+
+        keep[located[0]] = true;
+        keep[located[m - 1]] = true;
+
+        double toleranceSq = tolerance * tolerance;
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{0, m - 1});
+        while (!stack.isEmpty()) {
+            int[] range = stack.pop();
+            int a = located[range[0]];
+            int b = located[range[1]];
+
+            double maxDistSq = -1;
+            int split = -1;
+            for (int k = range[0] + 1; k < range[1]; k++) {
+                double d = segmentDistanceSq(x[located[k]], y[located[k]], x[a], y[a], x[b], y[b]);
+                if (d > maxDistSq) {
+                    maxDistSq = d;
+                    split = k;
+                }
+            }
+
+            if (split != -1 && maxDistSq > toleranceSq) {
+                keep[located[split]] = true;
+                stack.push(new int[]{range[0], split});
+                stack.push(new int[]{split, range[1]});
+            }
+        }
+    }
+
+    private static void fillTimeGaps(int[] time, int maxTimeGap, boolean[] keep, boolean[] required) {
+        int last = 0;
+        for (int i = 1; i < time.length; i++) {
+            if (keep[i]) {
+                last = i;
+                continue;
+            }
+            // 다음 포인트까지 가면 간격을 넘으므로 현재 포인트를 남김
+            if (i + 1 < time.length && time[i + 1] - time[last] > maxTimeGap) {
+                keep[i] = true;
+                required[i] = true;
+                last = i;
+            }
+        }
+    }
+
+    private static void visvalingam(TraceColumns trace, double[] x, double[] y,
+                                    boolean[] required, boolean[] keep, int maxPoints, int maxTimeGap) {
+        int n = trace.getSize();
+        int[] prev = new int[n];
+        int[] next = new int[n];
+        double[] area = new double[n];
+        int count = 0;
+
+        int last = -1;
+        for (int i = 0; i < n; i++) {
+            if (!keep[i]) continue;
+            prev[i] = last;
+            if (last != -1) next[last] = i;
+            last = i;
+            count++;
+        }
+        if (last != -1) next[last] = -1;
+        if (count <= maxPoints) {
+            return;
+        }
+
+        // {면적, index} - 이웃이 바뀌어 면적이 갱신된 항목은 꺼낼 때 area[]와 비교해 무시
+        PriorityQueue<double[]> queue = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+        for (int i = 0; i < n; i++) {
+            if (keep[i] && !required[i]) {
+                area[i] = triangleArea(trace, x, y, prev[i], i, next[i]);
+                queue.add(new double[]{area[i], i});
+            }
+        }
+
+        while (count > maxPoints && !queue.isEmpty()) {
+            double[] top = queue.poll();
+            int i = (int) top[1];
+            if (!keep[i] || top[0] != area[i]) continue;
+
+            int p = prev[i];
+            int q = next[i];
+            // 이웃 포인트가 제거될수록 간격은 넓어지기만 하므로 한 번 남긴 포인트는 다시 볼 필요 없음
+            if (maxTimeGap > 0 && p != -1 && q != -1 && trace.getTime()[q] - trace.getTime()[p] > maxTimeGap) {
+                required[i] = true;
+                continue;
+            }
+
+            keep[i] = false;
+            count--;
+            if (p != -1) next[p] = q;
+            if (q != -1) prev[q] = p;
+
+            // 제거된 포인트보다 작은 면적으로 먼저 빠지지 않도록 이웃 면적은 최소 제거 면적 이상으로 유지
+            for (int j : new int[]{p, q}) {
+                if (j != -1 && !required[j]) {
+                    area[j] = Math.max(top[0], triangleArea(trace, x, y, prev[j], j, next[j]));
+                    queue.add(new double[]{area[j], j});
+                }
+            }
+        }
+    }
+
+    // 위치가 없는 포인트는 면적 0 (먼저 제거)
+    private static double triangleArea(TraceColumns trace, double[] x, double[] y, int a, int b, int c) {
+        if (a == -1 || c == -1 || !trace.hasLocation(a) || !trace.hasLocation(b) || !trace.hasLocation(c)) {
+            return 0;
+        }
+        return Math.abs((x[b] - x[a]) * (y[c] - y[a]) - (x[c] - x[a]) * (y[b] - y[a])) / 2;
+    }
+
+    private static double segmentDistanceSq(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSq = dx * dx + dy * dy;
+        double t = lengthSq == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lengthSq;
+        t = Math.max(0, Math.min(1, t));
+        double ex = ax + t * dx - px;
+        double ey = ay + t * dy - py;
+        return ex * ex + ey * ey;
+    }
+
+    private static TraceColumns select(TraceColumns trace, boolean[] keep) {
+        int m = 0;
+        for (boolean k : keep) {
+            if (k) m++;
+        }
+
+        int[] time = new int[m];
+        double[] distance = new double[m];
+        double[] latitude = new double[m];
+        double[] longitude = new double[m];
+        int[] heartRate = new int[m];
+
+        int j = 0;
+        for (int i = 0; i < trace.getSize(); i++) {
+            if (!keep[i]) continue;
+            time[j] = trace.getTime()[i];
+            distance[j] = trace.getDistance()[i];
+            latitude[j] = trace.getLatitude()[i];
+            longitude[j] = trace.getLongitude()[i];
+            heartRate[j] = trace.getHeartRate()[i];
+            j++;
+        }
+        return new TraceColumns(m, time, distance, latitude, longitude, heartRate);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ssafy.ollana.tracking.service.trace;
+
+/*
+ * VarIntWriter로 기록한 값을 순서대로 읽음
+ */
+class VarIntReader {
+    private final byte[] data;
+    private int position;
+
+    VarIntReader(byte[] data) {
+        this.data = data;
+    }
+
+    long readSigned() {
+        long raw = readUnsigned();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    long readUnsigned() {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IllegalArgumentException("잘못된 varint 데이터입니다.");
+            }
+        }
+    }
+
+    // 아직 읽지 않은 바이트 수
+    int remaining() {
+        return data.length - position;
+    }
+
+    int readByte() {
+        if (position >= data.length) {
+            throw new IllegalArgumentException("trace 데이터가 손상되었습니다.");
+        }
+        return data[position++] & 0xFF;
+    }
+}
@@ -7,17 +7,24 @@ import com.ssafy.ollana.mountain.persistent.entity.Mountain;
 import com.ssafy.ollana.mountain.persistent.entity.Path;
 import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
 import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
+import com.ssafy.ollana.mountain.service.MountainCatalogChangedEvent;
 import com.ssafy.ollana.security.CustomUserDetails;
+import com.ssafy.ollana.tracking.service.GhostService;
+import com.ssafy.ollana.tracking.service.TrackingPresenceService;
 import com.ssafy.ollana.tracking.service.TrackingService;
 import com.ssafy.ollana.tracking.web.dto.request.CoordinateDto;
 import com.ssafy.ollana.tracking.web.dto.request.CoordinateRequestDto;
+import com.ssafy.ollana.tracking.web.dto.request.RouteOptionRequestDto;
 import com.ssafy.ollana.tracking.web.dto.request.TrackingFinishRequestDto;
+import com.ssafy.ollana.tracking.web.dto.request.TrackingRecordsAppendRequestDto;
 import com.ssafy.ollana.tracking.web.dto.request.TrackingStartRequestDto;
 import com.ssafy.ollana.tracking.web.dto.response.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.geolatte.geom.V;
 import org.locationtech.jts.geom.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -32,6 +39,8 @@ import java.util.Optional;
 public class TrackingController {
 
     private final TrackingService trackingService;
+    private final GhostService ghostService;
+    private final TrackingPresenceService trackingPresenceService;
 
     /*
      * 사용자 위치 인식 후 가장 가까운 산 반환
@@ -39,8 +48,9 @@ public class TrackingController {
     @GetMapping("/mountains/nearby")
     public ResponseEntity<Response<NearestMountainResponseDto>> getNearestMountain(
                                                         @RequestParam double lat,
-                                                        @RequestParam double lng) {
-        NearestMountainResponseDto response = trackingService.findNearestMountain(lat, lng);
+                                                        @RequestParam double lng,
+                                                        @ModelAttribute RouteOptionRequestDto option) {
+        NearestMountainResponseDto response = trackingService.findNearestMountain(lat, lng, option);
         return ResponseEntity.ok(Response.success(response));
     }
 
@@ -58,8 +68,9 @@ public class TrackingController {
      * 산 검색 결과 반환
      */
     @GetMapping("/search/list")
-    public ResponseEntity<Response<MountainSearchResponseDto>> getMountainSearchResults(@RequestParam String mtn) {
-        MountainSearchResponseDto response = trackingService.getMountainSearchResults(mtn);
+    public ResponseEntity<Response<MountainSearchResponseDto>> getMountainSearchResults(@RequestParam String mtn,
+                                                                                        @ModelAttribute RouteOptionRequestDto option) {
+        MountainSearchResponseDto response = trackingService.getMountainSearchResults(mtn, option);
         return ResponseEntity.ok(Response.success(response));
     }
 
@@ -67,8 +78,9 @@ public class TrackingController {
      * 산 리스트 중 특정 산 선택 시 결과 반환
      */
     @GetMapping("/search/mountain/{mountainId}")
-    public ResponseEntity<Response<MountainSearchListResponseDto>> getMountainSelectResult(@PathVariable Integer mountainId) {
-        MountainSearchListResponseDto response = trackingService.getMountainSelectResult(mountainId);
+    public ResponseEntity<Response<MountainSearchListResponseDto>> getMountainSelectResult(@PathVariable Integer mountainId,
+                                                                                           @ModelAttribute RouteOptionRequestDto option) {
+        MountainSearchListResponseDto response = trackingService.getMountainSelectResult(mountainId, option);
         return ResponseEntity.ok(Response.success(response));
     }
 
@@ -130,9 +142,87 @@ public class TrackingController {
         return ResponseEntity.ok(Response.success(response));
     }
 
+    /*
+     * 등산 중 기록 청크 업로드
+     */
+    @PostMapping("/records")
+    public ResponseEntity<Response<TrackingRecordsStatusResponseDto>> appendTrackingRecords(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                                            @RequestBody TrackingRecordsAppendRequestDto request) {
+        TrackingRecordsStatusResponseDto response = trackingService.appendTrackingRecords(userDetails.getUser().getId(), request);
+        return ResponseEntity.ok(Response.success(response));
+    }
+
+    /*
+     * 업로드된 기록 상태 조회
+     */
+    @GetMapping("/records")
+    public ResponseEntity<Response<TrackingRecordsStatusResponseDto>> getTrackingRecordsStatus(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        TrackingRecordsStatusResponseDto response = trackingService.getTrackingRecordsStatus(userDetails.getUser().getId());
+        return ResponseEntity.ok(Response.success(response));
+    }
+
+    /*
+     * 등산로 좌표 조회 (ETag가 같으면 304)
+     */
+    @GetMapping("/path/{pathId}/route")
+    public ResponseEntity<Response<PathRouteResponseDto>> getPathRoute(@PathVariable Integer pathId,
+                                                                       @ModelAttribute RouteOptionRequestDto option) {
+        PathRouteResponseDto response = trackingService.getPathRoute(pathId, option);
+        return ResponseEntity.ok()
+                .eTag(response.getRouteEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(Response.success(response));
+    }
+
+    /*
+     * 대결 상대(ghost)의 경과 시간별 위치 조회 (등산 중인 등산로의 기록만)
+     */
+    @GetMapping("/ghost/{hikingHistoryId}")
+    public ResponseEntity<Response<GhostPositionsResponseDto>> getGhostPositions(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                                 @PathVariable Integer hikingHistoryId,
+                                                                                 @RequestParam List<Integer> times) {
+        GhostPositionsResponseDto response = ghostService.getGhostPositions(userDetails.getUser().getId(), hikingHistoryId, times);
+        return ResponseEntity.ok(Response.success(response));
+    }
+
+    /*
+     * 산(또는 등산로)별 등산 중인 사용자 수
+     */
+    @GetMapping("/presence/mountain/{mountainId}/count")
+    public ResponseEntity<Response<ActiveHikerCountResponseDto>> countActiveHikers(@PathVariable Integer mountainId,
+                                                                                   @RequestParam(required = false) Integer pathId) {
+        ActiveHikerCountResponseDto response = trackingPresenceService.countActiveHikers(mountainId, pathId);
+        return ResponseEntity.ok(Response.success(response));
+    }
+
+    /*
+     * 산(또는 등산로)별 등산 중인 사용자 목록
+     */
+    @GetMapping("/presence/mountain/{mountainId}")
+    public ResponseEntity<Response<ActiveHikersResponseDto>> getActiveHikers(@PathVariable Integer mountainId,
+                                                                             @RequestParam(required = false) Integer pathId,
+                                                                             @RequestParam(defaultValue = "50") int limit) {
+        ActiveHikersResponseDto response = trackingPresenceService.getActiveHikers(mountainId, pathId, limit);
+        return ResponseEntity.ok(Response.success(response));
+    }
+
+    /*
+     * 반경(m) 안의 등산 중인 사용자 조회
+     */
+    @GetMapping("/presence/nearby")
+    public ResponseEntity<Response<ActiveHikersResponseDto>> getNearbyHikers(@RequestParam double lat,
+                                                                             @RequestParam double lng,
+                                                                             @RequestParam(defaultValue = "1000") double radius,
+                                                                             @RequestParam(required = false) Integer mountainId,
+                                                                             @RequestParam(defaultValue = "50") int limit) {
+        ActiveHikersResponseDto response = trackingPresenceService.getNearbyHikers(lat, lng, radius, mountainId, limit);
+        return ResponseEntity.ok(Response.success(response));
+    }
+
     //------------------------------------------------------------------------------------------------------------------------------
     private final MountainRepository mountainRepository;
     private final PathRepository pathRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /*
      * 테스트용 가상 등산로 좌표 저장 API
@@ -205,6 +295,7 @@ public class TrackingController {
                 .build();
 
         pathRepository.save(path);
+        eventPublisher.publishEvent(new MountainCatalogChangedEvent());
 
         log.info("싸피산 API 정상 응답 완료");
         return ResponseEntity.ok(Response.success("저장 완료"));
@@ -0,0 +1,18 @@
+package com.ssafy.ollana.tracking.web.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+ * 등산로 좌표 응답 옵션 (query parameter)
+ */
+@Getter
+@Builder
+public class RouteOptionRequestDto {
+    // 좌표 전송 방식 (JSON | COMPACT, 기본 JSON)
+    private String encoding;
+    // 지도 zoom level - 1px 보다 작은 굴곡은 제거
+    private Integer zoom;
+    // 허용 오차(m) - zoom보다 우선
+    private Double tolerance;
+}
@@ -1,12 +1,12 @@
 package com.ssafy.ollana.tracking.web.dto.request;
 
-import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.ssafy.ollana.tracking.service.trace.TraceColumns;
+import com.ssafy.ollana.tracking.service.trace.TraceColumnsDeserializer;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 
-import java.util.List;
-
 @Getter
 @Builder
 @ToString
@@ -21,5 +21,7 @@ public class TrackingFinishRequestDto {
     private Double finalLongitude;
     private Integer finalTime;
     private Double finalDistance;
-    private List<BattleRecordsForTrackingResponseDto> records;
+    // 포인트 객체를 만들지 않고 바로 컬럼 배열로 읽음 ({ polyline, columns } 압축 형식도 허용)
+    @JsonDeserialize(using = TraceColumnsDeserializer.class)
+    private TraceColumns records;
 }
@@ -0,0 +1,16 @@
+package com.ssafy.ollana.tracking.web.dto.request;
+
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+public class TrackingLiveRequestDto {
+    private Integer seq;
+    private List<BattleRecordsForTrackingResponseDto> records;
+}
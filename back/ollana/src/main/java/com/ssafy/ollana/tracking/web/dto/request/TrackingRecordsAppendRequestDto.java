@@ -0,0 +1,18 @@
+package com.ssafy.ollana.tracking.web.dto.request;
+
+import com.ssafy.ollana.tracking.web.dto.response.BattleRecordsForTrackingResponseDto;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+public class TrackingRecordsAppendRequestDto {
+    private Integer mountainId;
+    private Integer pathId;
+    private Integer seq;
+    private List<BattleRecordsForTrackingResponseDto> records;
+}
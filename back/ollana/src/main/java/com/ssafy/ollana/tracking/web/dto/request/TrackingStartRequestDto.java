@@ -13,4 +13,11 @@ public class TrackingStartRequestDto {
     private Integer recordId;
     private Double latitude;
     private Double longitude;
+    // 대결 상대 기록 축소 조건 (허용 오차 m, 최대 포인트 수)
+    private Double tolerance;
+    private Integer maxPoints;
+    // 등산로/대결 상대 좌표 전송 방식 (JSON | COMPACT, 기본 JSON)
+    private String encoding;
+    // 주변 등산객 검색에 위치 공개 여부 (기본 비공개)
+    private Boolean visible;
 }
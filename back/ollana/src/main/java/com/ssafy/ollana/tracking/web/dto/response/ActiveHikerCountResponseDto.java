@@ -0,0 +1,20 @@
+package com.ssafy.ollana.tracking.web.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ActiveHikerCountResponseDto {
+    private Integer mountainId;
+    private Integer pathId;
+    private long count;
+
+    public static ActiveHikerCountResponseDto of(Integer mountainId, Integer pathId, long count) {
+        return ActiveHikerCountResponseDto.builder()
+                .mountainId(mountainId)
+                .pathId(pathId)
+                .count(count)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssafy.ollana.tracking.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ActiveHikerResponseDto {
+    private Integer userId;
+    private String nickname;
+    private Integer pathId;
+    private Double latitude;
+    private Double longitude;
+    private Long lastSeenAt;
+    private Double distance;    // 반경 검색 시 기준 위치로부터의 거리(m)
+}
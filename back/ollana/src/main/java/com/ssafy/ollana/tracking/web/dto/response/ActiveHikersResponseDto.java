@@ -0,0 +1,20 @@
+package com.ssafy.ollana.tracking.web.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ActiveHikersResponseDto {
+    private long count;
+    private List<ActiveHikerResponseDto> hikers;
+
+    public static ActiveHikersResponseDto of(long count, List<ActiveHikerResponseDto> hikers) {
+        return ActiveHikersResponseDto.builder()
+                .count(count)
+                .hikers(hikers)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.ssafy.ollana.tracking.web.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class GhostPositionResponseDto {
+    private int time;
+    private double distance;
+    private int heartRate;
+    private Double latitude;
+    private Double longitude;
+    private boolean finished;
+}
@@ -0,0 +1,25 @@
+package com.ssafy.ollana.tracking.web.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class GhostPositionsResponseDto {
+    private Integer hikingHistoryId;
+    private int totalTime;
+    private double totalDistance;
+    private List<GhostPositionResponseDto> positions;
+
+    public static GhostPositionsResponseDto of(Integer hikingHistoryId, int totalTime, double totalDistance,
+                                               List<GhostPositionResponseDto> positions) {
+        return GhostPositionsResponseDto.builder()
+                .hikingHistoryId(hikingHistoryId)
+                .totalTime(totalTime)
+                .totalDistance(totalDistance)
+                .positions(positions)
+                .build();
+    }
+}
@@ -20,4 +20,10 @@ public class MountainSuggestionsResponseDto {
                                              .mountains(dtos)
                                              .build();
     }
+
+    public static MountainSuggestionsResponseDto of(List<MountainAutoCompleteResponseDto> mountains) {
+        return MountainSuggestionsResponseDto.builder()
+                                             .mountains(mountains)
+                                             .build();
+    }
 }
@@ -1,7 +1,11 @@
 package com.ssafy.ollana.tracking.web.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
-import com.ssafy.ollana.tracking.persistent.entity.HikingLiveRecords;
+import com.ssafy.ollana.tracking.service.trace.CompactTraceCodec;
+import com.ssafy.ollana.tracking.service.trace.EncodedTrace;
+import com.ssafy.ollana.tracking.service.trace.GeometryEncoding;
+import com.ssafy.ollana.tracking.service.trace.TraceColumns;
 import com.ssafy.ollana.user.entity.User;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,17 +19,21 @@ public class OpponentResponseDto {
     private String nickname;
     private Integer maxHeartRate;
     private Double averageHeartRate;
-    private List<BattleRecordsForTrackingResponseDto> records;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<BattleRecordsForTrackingResponseDto> records;  // encoding=JSON
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private EncodedTrace encodedRecords;                        // encoding=COMPACT
 
-    public static OpponentResponseDto from(User opponent, HikingHistory hikingHistory, List<HikingLiveRecords> records) {
+    public static OpponentResponseDto from(User opponent, HikingHistory hikingHistory, TraceColumns trace,
+                                           GeometryEncoding encoding) {
+        boolean compact = encoding == GeometryEncoding.COMPACT;
         return OpponentResponseDto.builder()
                 .opponentId(opponent.getId())
                 .nickname(opponent.getNickname())
                 .averageHeartRate(hikingHistory != null ? hikingHistory.getAverageHeartRate() : null)
                 .maxHeartRate(hikingHistory != null ? hikingHistory.getMaxHeartRate() : null)
-                .records(records.stream()
-                        .map(BattleRecordsForTrackingResponseDto::from)
-                        .toList())
+                .records(compact ? null : trace.toRecords())
+                .encodedRecords(compact ? CompactTraceCodec.encode(trace) : null)
                 .build();
     }
 
@@ -1,12 +1,12 @@
 package com.ssafy.ollana.tracking.web.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.ssafy.ollana.mountain.persistent.entity.Path;
-import com.ssafy.ollana.tracking.service.TrackingUtils;
+import com.ssafy.ollana.tracking.service.route.PathRoutePayload;
+import com.ssafy.ollana.tracking.service.trace.GeometryEncoding;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.util.List;
-
 @Getter
 @Builder
 public class PathForTrackingResponseDto {
@@ -14,15 +14,22 @@ public class PathForTrackingResponseDto {
     private String pathName;
     private Double pathLength;
     private String pathTime;
-    private List<LatLngPointResponseDto> route;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PathRoutePayload route;  // [{latitude, longitude}, ...] (캐시된 JSON 그대로 출력, encoding=JSON)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String polyline;         // encoded polyline (encoding=COMPACT)
+    private String routeEtag;        // 좌표가 바뀌지 않았으면 같은 값 (같은 encoding으로 요청한 GET /tracking/path/{pathId}/route 의 ETag)
 
-    public static PathForTrackingResponseDto from(Path path) {
+    public static PathForTrackingResponseDto from(Path path, PathRoutePayload route, GeometryEncoding encoding) {
+        boolean compact = encoding == GeometryEncoding.COMPACT;
         return PathForTrackingResponseDto.builder()
                 .pathId(path.getId())
                 .pathName(path.getPathName())
                 .pathLength(path.getPathLength())
                 .pathTime(path.getPathTime())
-                .route(TrackingUtils.convertLineStringToLatLng(path.getRoute()))
+                .route(compact ? null : route)
+                .polyline(compact ? route.getPolyline() : null)
+                .routeEtag(route.getEtag(encoding))
                 .build();
     }
 
@@ -0,0 +1,28 @@
+package com.ssafy.ollana.tracking.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ssafy.ollana.tracking.service.route.PathRoutePayload;
+import com.ssafy.ollana.tracking.service.trace.GeometryEncoding;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PathRouteResponseDto {
+    private Integer pathId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PathRoutePayload route;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String polyline;
+    private String routeEtag;
+
+    public static PathRouteResponseDto of(Integer pathId, PathRoutePayload route, GeometryEncoding encoding) {
+        boolean compact = encoding == GeometryEncoding.COMPACT;
+        return PathRouteResponseDto.builder()
+                .pathId(pathId)
+                .route(compact ? null : route)
+                .polyline(compact ? route.getPolyline() : null)
+                .routeEtag(route.getEtag(encoding))
+                .build();
+    }
+}
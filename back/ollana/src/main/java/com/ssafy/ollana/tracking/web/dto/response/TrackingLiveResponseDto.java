@@ -0,0 +1,44 @@
+package com.ssafy.ollana.tracking.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TrackingLiveResponseDto {
+    public static final String PROGRESS = "PROGRESS";
+    public static final String SUMMIT = "SUMMIT";
+    public static final String ERROR = "ERROR";
+
+    private String type;
+    private Integer seq;
+    private Integer bufferedCount;
+    private Integer time;
+    private Double distance;
+    private Double distanceToSummit;    // 등산로 끝 지점까지 직선 거리(m)
+    private Double distanceAlong;       // 등산로에 투영한 위치까지의 등산로 거리(m)
+    private Double remainingDistance;   // 투영 위치부터 끝 지점까지 등산로 거리(m)
+    private Double progressPercent;
+    private Double offRouteDistance;    // 등산로에서 벗어난 거리(m)
+    private Double ghostDistance;       // 같은 경과 시간의 대결 상대 누적 거리
+    private Double ghostGap;            // 내 누적 거리 - 대결 상대 누적 거리 (양수면 앞서는 중)
+    private String code;
+    private String message;
+
+    public static TrackingLiveResponseDto summit(Integer time) {
+        return TrackingLiveResponseDto.builder()
+                .type(SUMMIT)
+                .time(time)
+                .build();
+    }
+
+    public static TrackingLiveResponseDto error(String code, String message) {
+        return TrackingLiveResponseDto.builder()
+                .type(ERROR)
+                .code(code)
+                .message(message)
+                .build();
+    }
+}
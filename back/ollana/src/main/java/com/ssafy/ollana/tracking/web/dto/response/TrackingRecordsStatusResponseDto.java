@@ -0,0 +1,20 @@
+package com.ssafy.ollana.tracking.web.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TrackingRecordsStatusResponseDto {
+    private Integer lastSeq;
+    private int bufferedCount;
+    private Integer lastTime;
+
+    public static TrackingRecordsStatusResponseDto of(Integer lastSeq, int bufferedCount, Integer lastTime) {
+        return TrackingRecordsStatusResponseDto.builder()
+                .lastSeq(lastSeq)
+                .bufferedCount(bufferedCount)
+                .lastTime(lastTime)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.ssafy.ollana.tracking.web.socket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ollana.common.exception.BusinessException;
+import com.ssafy.ollana.security.CustomUserDetails;
+import com.ssafy.ollana.tracking.service.TrackingLiveService;
+import com.ssafy.ollana.tracking.service.TrackingLiveSession;
+import com.ssafy.ollana.tracking.service.exception.InvalidLiveMessageException;
+import com.ssafy.ollana.tracking.service.exception.InvalidTrackingException;
+import com.ssafy.ollana.tracking.web.dto.request.TrackingLiveRequestDto;
+import com.ssafy.ollana.tracking.web.dto.response.TrackingLiveResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+
+/*
+ * 실시간 트래킹 채널 (/tracking/live?ghostId={hikingHistoryId})
+ * - 연결 시 JWT 인증(핸드셰이크 요청)과 진행 중인 트래킹 세션(tracking:{userId})이 필요
+ * - 클라이언트 -> 서버 : { seq, records } (POST /tracking/records 와 같은 형식)
+ * - 서버 -> 클라이언트 : PROGRESS(남은 거리, 대결 상대와의 거리 차), SUMMIT(정상 도착), ERROR
+ * - 메시지는 데이터가 도착했을 때만 컨테이너 스레드에서 처리하므로 연결마다 스레드를 점유하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrackingLiveWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String LIVE_SESSION = "liveSession";
+    private static final String SENDER = "sender";
+
+    // 느린 클라이언트 때문에 처리 스레드가 묶이지 않도록 전송 시간/버퍼 제한
+    private static final int SEND_TIME_LIMIT = 5_000;
+    private static final int SEND_BUFFER_LIMIT = 64 * 1024;
+
+    private final TrackingLiveService trackingLiveService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        WebSocketSession sender = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT, SEND_BUFFER_LIMIT);
+        session.getAttributes().put(SENDER, sender);
+
+        // 인증 정보가 없거나 ghostId가 숫자가 아니면 연결 거부
+        Integer userId = getUserId(session);
+        if (userId == null) {
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+
+        try {
+            TrackingLiveSession live = trackingLiveService.open(userId, getGhostId(session));
+            session.getAttributes().put(LIVE_SESSION, live);
+        } catch (BusinessException e) {
+            send(sender, TrackingLiveResponseDto.error(e.getErrorCode(), e.getMessage()));
+            session.close(CloseStatus.POLICY_VIOLATION);
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        WebSocketSession sender = (WebSocketSession) session.getAttributes().get(SENDER);
+        TrackingLiveSession live = (TrackingLiveSession) session.getAttributes().get(LIVE_SESSION);
+        if (live == null) {
+            return;
+        }
+
+        try {
+            TrackingLiveRequestDto request = objectMapper.readValue(message.getPayload(), TrackingLiveRequestDto.class);
+            for (TrackingLiveResponseDto response : trackingLiveService.receive(live, request)) {
+                send(sender, response);
+            }
+        } catch (JsonProcessingException e) {
+            InvalidLiveMessageException invalid = new InvalidLiveMessageException();
+            send(sender, TrackingLiveResponseDto.error(invalid.getErrorCode(), invalid.getMessage()));
+        } catch (InvalidTrackingException e) {
+            // 트래킹이 종료된 뒤 들어온 메시지 -> 더 받을 필요 없으므로 연결 종료
+            send(sender, TrackingLiveResponseDto.error(e.getErrorCode(), e.getMessage()));
+            session.getAttributes().remove(LIVE_SESSION);
+            session.close(CloseStatus.NORMAL);
+        } catch (BusinessException e) {
+            send(sender, TrackingLiveResponseDto.error(e.getErrorCode(), e.getMessage()));
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.warn("실시간 트래킹 연결 오류: session={}, error={}", session.getId(), exception.getMessage());
+    }
+
+    private void send(WebSocketSession sender, TrackingLiveResponseDto response) throws IOException {
+        if (sender.isOpen()) {
+            sender.sendMessage(new TextMessage(objectMapper.writeValueAsString(response)));
+        }
+    }
+
+    private Integer getUserId(WebSocketSession session) {
+        if (session.getPrincipal() instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUser().getId();
+        }
+        return null;
+    }
+
+    private Integer getGhostId(WebSocketSession session) {
+        String ghostId = UriComponentsBuilder.fromUri(session.getUri())
+                .build()
+                .getQueryParams()
+                .getFirst("ghostId");
+        if (ghostId == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(ghostId);
+        } catch (NumberFormatException e) {
+            throw new InvalidLiveMessageException();
+        }
+    }
+}
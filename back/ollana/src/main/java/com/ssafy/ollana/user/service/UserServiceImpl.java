@@ -4,10 +4,8 @@ import com.ssafy.ollana.auth.exception.AuthenticationException;
 import com.ssafy.ollana.auth.service.KakaoService;
 import com.ssafy.ollana.auth.service.TokenService;
 import com.ssafy.ollana.common.s3.service.S3Service;
-import com.ssafy.ollana.footprint.persistent.entity.Footprint;
-import com.ssafy.ollana.footprint.persistent.entity.HikingHistory;
-import com.ssafy.ollana.footprint.persistent.repository.FootprintRepository;
-import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
+import com.ssafy.ollana.footprint.persistent.entity.UserHikingSummary;
+import com.ssafy.ollana.footprint.service.UserHikingSummaryService;
 import com.ssafy.ollana.mountain.persistent.entity.Level;
 import com.ssafy.ollana.security.CustomUserDetails;
 import com.ssafy.ollana.security.jwt.JwtUtil;
@@ -24,25 +22,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import com.ssafy.ollana.user.exception.NicknameAlreadyExistsException;
 import com.ssafy.ollana.user.repository.UserRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserServiceImpl implements UserService {
 
-    private final FootprintRepository footprintRepository;
-    private final HikingHistoryRepository hikingHistoryRepository;
+    private final UserHikingSummaryService userHikingSummaryService;
     private final UserRepository userRepository;
     private final S3Service s3Service;
     private final TokenService tokenService;
@@ -185,13 +177,10 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public LatestRecordDto getLatestRecord(User user) {
-        // 첫 페이지에 가장 최근 데이터 1개만 가져오기 위한 Pageable 설정
-        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt"));
+        // 사용자 등산 요약 기본키 조회 한 번
+        UserHikingSummary summary = userHikingSummaryService.getSummary(user.getId());
 
-        // user의 가장 최근 Footprint 가져오기
-        Page<Footprint> footprintPage = footprintRepository.findByUserId(user.getId(), pageable);
-
-        if (footprintPage.isEmpty()) {
+        if (!summary.hasHiked()) {
             return LatestRecordDto.builder()
                     .mountainName("")
                     .climbDate("")
@@ -200,31 +189,15 @@ public class UserServiceImpl implements UserService {
                     .build();
         }
 
-        Footprint footprint = footprintPage.getContent().get(0);
-
-        // hikingHistory 가져오기
-        List<HikingHistory> hikingHistoryList = hikingHistoryRepository.findAllByFootprintIdOrderByCreatedAtAsc(footprint.getId());
-
-        if (hikingHistoryList.isEmpty()) {
-            return LatestRecordDto.builder()
-                    .mountainName("")
-                    .climbDate("")
-                    .climbTime(0)
-                    .climbDistance(0.0)
-                    .build();
-        }
-
-        // 오름차순으로 가져왔기 때문에 가장 마지막 항목이 가장 최근 기록
-        HikingHistory latestHistory = hikingHistoryList.get(hikingHistoryList.size() - 1);
-
         return LatestRecordDto.builder()
-                .mountainName(footprint.getMountain().getMountainName())
-                .climbDate(latestHistory.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE))
-                .climbTime(latestHistory.getHikingTime())
-                .climbDistance(latestHistory.getPath().getPathLength())
+                .mountainName(summary.getLatestMountainName())
+                .climbDate(summary.getLatestHikedAt().format(DateTimeFormatter.ISO_LOCAL_DATE))
+                .climbTime(summary.getLatestHikingTime())
+                .climbDistance(summary.getLatestPathLength())
                 .build();
     }
 
+
     // 등산 종료 후 거리와 경험치 갱신
     @Override
     public void updateUserInfoAfterTracking(User user, Double finalDistance, Level level) {
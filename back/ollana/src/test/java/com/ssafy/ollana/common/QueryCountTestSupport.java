@@ -0,0 +1,55 @@
+package com.ssafy.ollana.common;
+
+import com.ssafy.ollana.common.config.QueryDslConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/*
+ * 목록 조회가 행 수와 관계없이 일정한 개수의 SQL만 실행하는지 확인하는 JPA slice 테스트
+ * - geometry 컬럼이 있으므로 H2 대신 PostGIS 컨테이너 사용
+ * - hibernate.generate_statistics로 실제 prepare된 statement 수를 셈
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+@Testcontainers
+public abstract class QueryCountTestSupport {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGIS = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    @Autowired
+    protected TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /*
+     * 저장한 데이터를 flush 후 1차 캐시를 비우고, query 실행 중 prepare된 statement 수를 반환
+     */
+    protected long countStatements(Runnable query) {
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,51 @@
+package com.ssafy.ollana.common.util;
+
+import com.ssafy.ollana.common.util.SolarCalculator.SunTimes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SolarCalculatorTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final double SEOUL_LATITUDE = 37.5665;
+    private static final double SEOUL_LONGITUDE = 126.9780;
+
+    @ParameterizedTest(name = "{0} 일출 {1}, 일몰 {2}")
+    @CsvSource({
+            // 한국천문연구원 발표 서울 일출/일몰 시각 (분 단위)
+            "2024-03-20, 06:35, 18:44",
+            "2024-06-21, 05:11, 19:57",
+            "2024-12-21, 07:43, 17:17"
+    })
+    @DisplayName("서울 춘분/하지/동지 일출·일몰은 발표 시각과 1분 이내")
+    void seoulSolsticesAndEquinox(LocalDate date, LocalTime sunrise, LocalTime sunset) {
+        SunTimes times = SolarCalculator.calculate(date, SEOUL_LATITUDE, SEOUL_LONGITUDE, 0, SEOUL);
+
+        assertThat(secondsBetween(times.getSunrise(), sunrise)).isLessThanOrEqualTo(60);
+        assertThat(secondsBetween(times.getSunset(), sunset)).isLessThanOrEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("극야(해가 뜨지 않는 날)는 일출/일몰 모두 null")
+    void polarNightReturnsNull() {
+        // 스발바르 롱위에아르뷔엔, 동지
+        SunTimes times = SolarCalculator.calculate(LocalDate.of(2024, 12, 21), 78.22, 15.65, 0,
+                ZoneId.of("Arctic/Longyearbyen"));
+
+        assertThat(times.getSunrise()).isNull();
+        assertThat(times.getSunset()).isNull();
+    }
+
+    private long secondsBetween(LocalTime actual, LocalTime expected) {
+        return Duration.between(expected, actual).abs().toSeconds();
+    }
+}
@@ -0,0 +1,103 @@
+package com.ssafy.ollana.footprint.service;
+
+import com.ssafy.ollana.common.QueryCountTestSupport;
+import com.ssafy.ollana.footprint.persistent.entity.BattleHistory;
+import com.ssafy.ollana.footprint.persistent.entity.enums.BattleResult;
+import com.ssafy.ollana.footprint.persistent.repository.BattleHistoryRepository;
+import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
+import com.ssafy.ollana.footprint.web.dto.response.UserVersusOtherResponseDto;
+import com.ssafy.ollana.mountain.persistent.entity.Level;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.user.entity.Gender;
+import com.ssafy.ollana.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BattleHistoryServiceQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private BattleHistoryRepository battleHistoryRepository;
+
+    private BattleHistoryService battleHistoryService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        battleHistoryService = new BattleHistoryService(battleHistoryRepository, mock(HikingHistoryRepository.class));
+        user = em.persist(user("me"));
+    }
+
+    @Test
+    @DisplayName("대결 기록(페이지)은 기록 수와 관계없이 산/상대방을 함께 조회하는 1번")
+    void battleRecordsRunConstantStatements() {
+        saveBattles(0, 2);
+        long fewCount = countStatements(() ->
+                battleHistoryService.getHikingBattleRecords(user.getId(), PageRequest.of(0, 20)));
+
+        saveBattles(2, 10);
+        List<UserVersusOtherResponseDto> many = new ArrayList<>();
+        long manyCount = countStatements(() -> many.addAll(battleHistoryService
+                .getHikingBattleRecords(user.getId(), PageRequest.of(0, 20)).getData().get("list")));
+
+        assertThat(many).hasSize(12)
+                .allSatisfy(battle -> {
+                    assertThat(battle.getMountain().getMountainName()).startsWith("테스트산");
+                    assertThat(battle.getOpponent().getNickname()).startsWith("rival");
+                });
+        assertThat(fewCount).isEqualTo(1);
+        assertThat(manyCount).isEqualTo(fewCount);
+    }
+
+    @Test
+    @DisplayName("대결 기록(커서)은 기록 수와 관계없이 산/상대방을 함께 조회하는 1번")
+    void battleRecordsScrollRunsConstantStatements() {
+        saveBattles(0, 2);
+        long fewCount = countStatements(() ->
+                battleHistoryService.getHikingBattleRecordsScroll(user.getId(), null, 20));
+
+        saveBattles(2, 10);
+        List<UserVersusOtherResponseDto> many = new ArrayList<>();
+        long manyCount = countStatements(() -> many.addAll(battleHistoryService
+                .getHikingBattleRecordsScroll(user.getId(), null, 20).getData().get("list")));
+
+        assertThat(many).hasSize(12);
+        assertThat(fewCount).isEqualTo(1);
+        assertThat(manyCount).isEqualTo(fewCount);
+    }
+
+    // 기록마다 다른 산/상대방 (연관관계를 행마다 조회하면 쿼리 수가 늘어남)
+    private void saveBattles(int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            Mountain mountain = em.persist(Mountain.builder()
+                    .mountainName("테스트산" + i)
+                    .level(Level.M)
+                    .build());
+            User opponent = em.persist(user("rival" + i));
+            em.persist(BattleHistory.builder()
+                    .user(user)
+                    .opponent(opponent)
+                    .mountain(mountain)
+                    .result(BattleResult.W)
+                    .build());
+        }
+    }
+
+    private User user(String nickname) {
+        return User.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .birth("2000-01-01")
+                .gender(Gender.M)
+                .profileImage("profile.png")
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.ssafy.ollana.footprint.service;
+
+import com.ssafy.ollana.common.QueryCountTestSupport;
+import com.ssafy.ollana.footprint.persistent.entity.Footprint;
+import com.ssafy.ollana.footprint.persistent.repository.FootprintRepository;
+import com.ssafy.ollana.footprint.web.dto.response.FootprintResponseDto;
+import com.ssafy.ollana.mountain.persistent.entity.Level;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.user.entity.Gender;
+import com.ssafy.ollana.user.entity.User;
+import com.ssafy.ollana.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class FootprintServiceQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private FootprintRepository footprintRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private FootprintService footprintService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        footprintService = new FootprintService(footprintRepository, userRepository,
+                mock(UserHikingSummaryService.class));
+        user = em.persist(User.builder()
+                .email("me@test.com")
+                .nickname("me")
+                .birth("2000-01-01")
+                .gender(Gender.M)
+                .profileImage("profile.png")
+                .build());
+    }
+
+    @Test
+    @DisplayName("발자취 목록(페이지)은 발자취 수와 관계없이 산을 함께 조회 + 사용자 조회 2번")
+    void footprintListRunsConstantStatements() {
+        saveFootprints(0, 2);
+        long fewCount = countStatements(() ->
+                footprintService.getFootprintList(user.getId(), PageRequest.of(0, 20)));
+
+        saveFootprints(2, 10);
+        List<FootprintResponseDto> many = new ArrayList<>();
+        long manyCount = countStatements(() -> many.addAll(
+                footprintService.getFootprintList(user.getId(), PageRequest.of(0, 20)).getMountains()));
+
+        assertThat(many).hasSize(12)
+                .allSatisfy(footprint -> assertThat(footprint.getMountainName()).startsWith("테스트산"));
+        assertThat(fewCount).isEqualTo(2);
+        assertThat(manyCount).isEqualTo(fewCount);
+    }
+
+    @Test
+    @DisplayName("발자취 목록(커서)은 발자취 수와 관계없이 산을 함께 조회하는 1번")
+    void footprintScrollRunsConstantStatements() {
+        saveFootprints(0, 2);
+        long fewCount = countStatements(() -> footprintService.getFootprintScroll(user.getId(), null, 20));
+
+        saveFootprints(2, 10);
+        List<FootprintResponseDto> many = new ArrayList<>();
+        long manyCount = countStatements(() -> many.addAll(
+                footprintService.getFootprintScroll(user.getId(), null, 20).getData().get("mountains")));
+
+        assertThat(many).hasSize(12)
+                .allSatisfy(footprint -> assertThat(footprint.getMountainName()).startsWith("테스트산"));
+        assertThat(fewCount).isEqualTo(1);
+        assertThat(manyCount).isEqualTo(fewCount);
+    }
+
+    // 발자취마다 다른 산 (산을 행마다 조회하면 쿼리 수가 늘어남)
+    private void saveFootprints(int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            Mountain mountain = em.persist(Mountain.builder()
+                    .mountainName("테스트산" + i)
+                    .mountainBadge("badge-" + i + ".png")
+                    .level(Level.M)
+                    .build());
+            em.persist(Footprint.of(user, mountain));
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.mountain.web.dto.response.MountainImageCrawlStatusResponseDto;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class MountainImageCrawlerTest {
+
+    private static final String IMAGE_URL_PREFIX = "www.forest.go.kr/images/data/down/mountain/";
+
+    private MockWebServer server;
+    private MountainRepository mountainRepository;
+    private JdbcTemplate jdbcTemplate;
+    private RedisTemplate<String, String> redisTemplate;
+    private MountainImageCrawler crawler;
+
+    // 산 코드별 응답, 요청 순서/시각
+    private final Map<String, MockResponse> responses = new ConcurrentHashMap<>();
+    private final List<String> requestedCodes = new CopyOnWriteArrayList<>();
+    private final List<Long> requestedAt = new CopyOnWriteArrayList<>();
+    // Redis checkpoint set
+    private final Set<String> done = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                requestedAt.add(System.nanoTime());
+                String code = request.getRequestUrl().queryParameter("mntiListNo");
+                requestedCodes.add(code);
+                return responses.getOrDefault(code, xml(items()));
+            }
+        });
+        server.start();
+
+        mountainRepository = mock(MountainRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        redisTemplate = mock(RedisTemplate.class);
+
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(anyString())).thenAnswer(invocation -> new HashSet<>(done));
+        doAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            Arrays.stream(arguments, 1, arguments.length).forEach(value -> done.add((String) value));
+            return 1L;
+        }).when(setOperations).add(anyString(), any(String[].class));
+        doAnswer(invocation -> {
+            done.clear();
+            return true;
+        }).when(redisTemplate).delete(anyString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (crawler != null) {
+            crawler.shutdown();
+        }
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("<item><imgfilename>만 읽어 산별로 삭제 후 batch insert, 완료 표시")
+    void parsesImageFileNames() throws InterruptedException {
+        mountains(row(1, "M001"));
+        responses.put("M001", xml("""
+                <response>
+                  <header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>
+                  <body>
+                    <items>
+                      <item><imgno>1</imgno><imgfilename> a.jpg </imgfilename></item>
+                      <item><imgno>2</imgno><imgfilename>b.jpg</imgfilename></item>
+                      <item><imgno>3</imgno><imgfilename></imgfilename></item>
+                    </items>
+                    <totalCount>3</totalCount>
+                  </body>
+                </response>
+                """));
+        crawler = crawler(8, 100);
+
+        MountainImageCrawlStatusResponseDto status = runToCompletion(false);
+
+        assertThat(status.getCompleted()).isEqualTo(1);
+        assertThat(status.getImages()).isEqualTo(2);
+        assertThat(status.getFailed()).isZero();
+        verify(jdbcTemplate).update(anyString(), eq(1));
+        verify(jdbcTemplate).batchUpdate(anyString(),
+                eq(List.of(IMAGE_URL_PREFIX + "a.jpg", IMAGE_URL_PREFIX + "b.jpg")), eq(2), any());
+        assertThat(done).containsExactly("M001");
+    }
+
+    @Test
+    @DisplayName("<errMsg> 응답이면 실패로 기록하고 저장/완료 표시를 하지 않음")
+    void errorResponseIsNotCheckpointed() throws InterruptedException {
+        mountains(row(1, "M001"));
+        responses.put("M001", xml("""
+                <OpenAPI_ServiceResponse>
+                  <cmmMsgHeader>
+                    <errMsg>SERVICE ERROR</errMsg>
+                    <returnAuthMsg>SERVICE_KEY_IS_NOT_REGISTERED_ERROR</returnAuthMsg>
+                    <returnReasonCode>30</returnReasonCode>
+                  </cmmMsgHeader>
+                </OpenAPI_ServiceResponse>
+                """));
+        crawler = crawler(8, 100);
+
+        MountainImageCrawlStatusResponseDto status = runToCompletion(false);
+
+        assertThat(status.getFailed()).isEqualTo(1);
+        assertThat(status.getCompleted()).isZero();
+        verify(jdbcTemplate, never()).update(anyString(), anyInt());
+        assertThat(done).isEmpty();
+    }
+
+    @Test
+    @DisplayName("<item>이 없는 응답이면 기존 이미지를 지우지 않고 실패로 기록")
+    void emptyResponseKeepsExistingImages() throws InterruptedException {
+        mountains(row(1, "M001"));
+        responses.put("M001", xml("""
+                <response>
+                  <header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>
+                  <body><items></items><totalCount>0</totalCount></body>
+                </response>
+                """));
+        crawler = crawler(8, 100);
+
+        MountainImageCrawlStatusResponseDto status = runToCompletion(false);
+
+        assertThat(status.getFailed()).isEqualTo(1);
+        assertThat(status.getCompleted()).isZero();
+        verify(jdbcTemplate, never()).update(anyString(), anyInt());
+        assertThat(done).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 실행하면 완료된 산은 건너뛰고 실패한 산만 요청, reset이면 전체 재수집")
+    void rerunSkipsCheckpointedMountains() throws InterruptedException {
+        mountains(row(1, "M001"), row(2, "M002"), row(3, "M003"));
+        responses.put("M002", new MockResponse().setResponseCode(500));
+        crawler = crawler(8, 100);
+
+        MountainImageCrawlStatusResponseDto first = runToCompletion(false);
+        assertThat(first.getCompleted()).isEqualTo(2);
+        assertThat(first.getFailed()).isEqualTo(1);
+        assertThat(done).containsExactlyInAnyOrder("M001", "M003");
+
+        responses.remove("M002");
+        requestedCodes.clear();
+        MountainImageCrawlStatusResponseDto second = runToCompletion(false);
+        assertThat(second.getSkipped()).isEqualTo(2);
+        assertThat(second.getCompleted()).isEqualTo(1);
+        assertThat(requestedCodes).containsExactly("M002");
+
+        requestedCodes.clear();
+        MountainImageCrawlStatusResponseDto reset = runToCompletion(true);
+        assertThat(reset.getSkipped()).isZero();
+        assertThat(reset.getCompleted()).isEqualTo(3);
+        assertThat(requestedCodes).containsExactlyInAnyOrder("M001", "M002", "M003");
+    }
+
+    @Test
+    @DisplayName("동시 실행 스레드 수와 관계없이 전체 요청 속도는 rate-per-second 이하")
+    void requestsAreRateLimited() throws InterruptedException {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            rows.add(row(i, "M00" + i));
+        }
+        when(mountainRepository.findAllIdAndMntnCode()).thenReturn(rows);
+        // 초당 10건 -> 요청 시작 간격 100ms
+        crawler = crawler(8, 10);
+
+        MountainImageCrawlStatusResponseDto status = runToCompletion(false);
+
+        assertThat(status.getCompleted()).isEqualTo(6);
+        assertThat(requestedAt).hasSize(6);
+        long first = requestedAt.stream().min(Long::compare).orElseThrow();
+        long last = requestedAt.stream().max(Long::compare).orElseThrow();
+        // 6건 = 간격 5번 (스케줄 오차 여유 50ms)
+        assertThat(TimeUnit.NANOSECONDS.toMillis(last - first)).isGreaterThanOrEqualTo(450);
+    }
+
+    private MountainImageCrawler crawler(int concurrency, int ratePerSecond) {
+        return new MountainImageCrawler(mountainRepository, redisTemplate, jdbcTemplate,
+                mock(PlatformTransactionManager.class), server.url("/mntInfoImgOpenAPI2").toString(),
+                "test-key", 1000, 3000, concurrency, ratePerSecond);
+    }
+
+    private MountainImageCrawlStatusResponseDto runToCompletion(boolean reset) throws InterruptedException {
+        crawler.start(reset);
+        long deadline = System.currentTimeMillis() + 10_000;
+        MountainImageCrawlStatusResponseDto status = crawler.status();
+        while (status.isRunning() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            status = crawler.status();
+        }
+        assertThat(status.isRunning()).isFalse();
+        return status;
+    }
+
+    private void mountains(Object[]... rows) {
+        when(mountainRepository.findAllIdAndMntnCode()).thenReturn(List.of(rows));
+    }
+
+    private Object[] row(Integer mountainId, String mntnCode) {
+        return new Object[]{mountainId, mntnCode};
+    }
+
+    private String items() {
+        return """
+                <response><body><items>
+                  <item><imgfilename>default.jpg</imgfilename></item>
+                </items></body></response>
+                """;
+    }
+
+    private MockResponse xml(String body) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/xml;charset=UTF-8")
+                .setBody(body);
+    }
+}
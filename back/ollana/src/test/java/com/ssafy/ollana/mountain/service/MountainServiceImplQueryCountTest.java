@@ -0,0 +1,111 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.common.QueryCountTestSupport;
+import com.ssafy.ollana.mountain.persistent.entity.Level;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.entity.MountainImg;
+import com.ssafy.ollana.mountain.persistent.repository.MountainImgRepository;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
+import com.ssafy.ollana.mountain.web.dto.response.MountainListResponseDto;
+import com.ssafy.ollana.tracking.service.route.PathRouteCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MountainServiceImplQueryCountTest extends QueryCountTestSupport {
+
+    private static final int IMAGES_PER_MOUNTAIN = 3;
+
+    @Autowired
+    private PathRepository pathRepository;
+    @Autowired
+    private MountainRepository mountainRepository;
+    @Autowired
+    private MountainImgRepository mountainImgRepository;
+
+    private MountainServiceImpl mountainService;
+
+    @BeforeEach
+    void setUp() {
+        mountainService = new MountainServiceImpl(pathRepository, mountainRepository, mountainImgRepository,
+                mock(PathRouteCache.class), mock(MountainClusterIndex.class), mock(MountainWeatherCache.class),
+                mock(MountainSunTimeTable.class));
+    }
+
+    @Test
+    @DisplayName("산 목록(페이지)은 산 수와 관계없이 산 조회 + 이미지 IN 조회 2번")
+    void mountainListRunsConstantStatements() {
+        saveMountains(0, 2);
+        List<MountainListResponseDto> few = new ArrayList<>();
+        long fewCount = countStatements(() -> few.addAll(
+                mountainService.getMountainList(0, 20).getData().get("mountains")));
+
+        saveMountains(2, 10);
+        List<MountainListResponseDto> many = new ArrayList<>();
+        long manyCount = countStatements(() -> many.addAll(
+                mountainService.getMountainList(0, 20).getData().get("mountains")));
+
+        assertThat(few).hasSize(2);
+        assertThat(many).hasSize(12)
+                .allSatisfy(mountain -> assertThat(mountain.getImages()).hasSize(IMAGES_PER_MOUNTAIN));
+        assertThat(fewCount).isEqualTo(2);
+        assertThat(manyCount).isEqualTo(fewCount);
+    }
+
+    @Test
+    @DisplayName("산 목록(커서)은 산 수와 관계없이 산 조회 + 이미지 IN 조회 2번")
+    void mountainScrollRunsConstantStatements() {
+        saveMountains(0, 2);
+        long fewCount = countStatements(() -> mountainService.getMountainScroll(null, 20));
+
+        saveMountains(2, 10);
+        List<MountainListResponseDto> many = new ArrayList<>();
+        long manyCount = countStatements(() -> many.addAll(
+                mountainService.getMountainScroll(null, 20).getData().get("mountains")));
+
+        assertThat(many).hasSize(12)
+                .allSatisfy(mountain -> assertThat(mountain.getImages()).hasSize(IMAGES_PER_MOUNTAIN));
+        assertThat(fewCount).isEqualTo(2);
+        assertThat(manyCount).isEqualTo(fewCount);
+    }
+
+    @Test
+    @DisplayName("산 이름 검색은 검색 결과 수와 관계없이 산 조회 + 이미지 IN 조회 2번")
+    void searchMountainRunsConstantStatements() {
+        saveMountains(0, 2);
+        long fewCount = countStatements(() -> mountainService.searchMountain("테스트"));
+
+        saveMountains(2, 10);
+        List<MountainListResponseDto> many = new ArrayList<>();
+        long manyCount = countStatements(() -> many.addAll(mountainService.searchMountain("테스트")));
+
+        assertThat(many).hasSize(12)
+                .allSatisfy(mountain -> assertThat(mountain.getImages()).hasSize(IMAGES_PER_MOUNTAIN));
+        assertThat(fewCount).isEqualTo(2);
+        assertThat(manyCount).isEqualTo(fewCount);
+    }
+
+    private void saveMountains(int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            Mountain mountain = em.persist(Mountain.builder()
+                    .mountainName("테스트산" + i)
+                    .mountainLoc("서울")
+                    .level(Level.M)
+                    .build());
+            for (int j = 0; j < IMAGES_PER_MOUNTAIN; j++) {
+                em.persist(MountainImg.builder()
+                        .mountain(mountain)
+                        .image("img-" + i + "-" + j + ".jpg")
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.mountain.web.dto.MountainWeatherDto;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.ssafy.ollana.mountain.service.OpenWeatherClientTest.FORECAST;
+import static com.ssafy.ollana.mountain.service.OpenWeatherClientTest.baseUrl;
+import static com.ssafy.ollana.mountain.service.OpenWeatherClientTest.json;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@SuppressWarnings("unchecked")
+class MountainWeatherCacheTest {
+
+    private static final long HOUR = 3_600_000;
+
+    private MockWebServer server;
+    private MountainWeatherCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (cache != null) {
+            cache.shutdown();
+        }
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 칸에 동시에 캐시가 없으면 upstream 호출은 한 번")
+    void concurrentMissesShareOneUpstreamCall() throws Exception {
+        server.enqueue(json(FORECAST).setBodyDelay(300, TimeUnit.MILLISECONDS));
+        cache = cache(HOUR, 6 * HOUR, 3000);
+
+        int requests = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MountainWeatherDto>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                // 같은 격자 칸 안의 서로 다른 산
+                Mountain mountain = mountain(37.5 + i * 0.001, 127.0);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(mountain);
+                }));
+            }
+            start.countDown();
+
+            for (Future<MountainWeatherDto> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isNotNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ttl 이내에는 upstream을 다시 호출하지 않음")
+    void freshValueIsServedFromCache() {
+        server.enqueue(json(FORECAST));
+        cache = cache(HOUR, 6 * HOUR, 3000);
+
+        MountainWeatherDto first = cache.get(mountain(37.5, 127.0));
+        MountainWeatherDto second = cache.get(mountain(37.5, 127.0));
+
+        assertThat(second).isSameAs(first);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ttl이 지나면 이전 값을 바로 반환하고 백그라운드에서 갱신")
+    void staleValueIsServedWhileRevalidating() throws InterruptedException {
+        server.enqueue(json(FORECAST));
+        server.enqueue(json(FORECAST).setBodyDelay(500, TimeUnit.MILLISECONDS));
+        cache = cache(0, 6 * HOUR, 3000);
+
+        MountainWeatherDto first = cache.get(mountain(37.5, 127.0));
+
+        long start = System.nanoTime();
+        MountainWeatherDto stale = cache.get(mountain(37.5, 127.0));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(300);
+        assertThat(stale).isSameAs(first);
+
+        assertThat(server.takeRequest(2, TimeUnit.SECONDS)).isNotNull();
+        assertThat(server.takeRequest(2, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("upstream 오류 시 이전 값을 반환")
+    void staleValueIsServedOnUpstreamFailure() {
+        server.enqueue(json(FORECAST));
+        server.enqueue(new MockResponse().setResponseCode(500));
+        // ttl, max-stale 0 -> 매 요청이 갱신을 기다림
+        cache = cache(0, 0, 3000);
+
+        MountainWeatherDto first = cache.get(mountain(37.5, 127.0));
+        MountainWeatherDto second = cache.get(mountain(37.5, 127.0));
+
+        assertThat(first).isNotNull();
+        assertThat(second).isSameAs(first);
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("upstream이 wait-timeout 안에 응답하지 않으면 이전 값을 반환")
+    void previousValueIsServedOnTimeout() {
+        server.enqueue(json(FORECAST));
+        server.enqueue(json(FORECAST).setHeadersDelay(1, TimeUnit.SECONDS));
+        cache = cache(0, 0, 100);
+
+        MountainWeatherDto first = cache.get(mountain(37.5, 127.0));
+
+        long start = System.nanoTime();
+        MountainWeatherDto second = cache.get(mountain(37.5, 127.0));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(800);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("이전 값 없이 wait-timeout을 넘기면 null (날씨 없이 상세 응답)")
+    void nullIsReturnedWhenFirstFetchTimesOut() {
+        server.enqueue(json(FORECAST).setHeadersDelay(1, TimeUnit.SECONDS));
+        cache = cache(HOUR, 6 * HOUR, 100);
+
+        long start = System.nanoTime();
+        assertThat(cache.get(mountain(37.5, 127.0))).isNull();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(800);
+    }
+
+    private MountainWeatherCache cache(long ttl, long maxStale, long waitTimeout) {
+        OpenWeatherClient client = new OpenWeatherClient(baseUrl(server), 1000, 5000, "test-key");
+        return new MountainWeatherCache(client, mock(MountainRepository.class), mock(RedisTemplate.class),
+                100, 0.05, ttl, maxStale, waitTimeout, 4, 10);
+    }
+
+    private Mountain mountain(double latitude, double longitude) {
+        return Mountain.builder()
+                .mountainLatitude(latitude)
+                .mountainLongitude(longitude)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.ssafy.ollana.mountain.service;
+
+import com.ssafy.ollana.mountain.web.dto.MountainWeatherDto;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenWeatherClientTest {
+
+    static final String FORECAST = """
+            {
+              "lat": 37.5, "lon": 127.0, "timezone": "Asia/Seoul", "timezone_offset": 32400,
+              "daily": [{
+                "dt": 1760659200, "sunrise": 1760649480, "sunset": 1760690040,
+                "temp": {"min": 8.5, "max": 19.2}, "wind_speed": 3.1, "pop": 0.2,
+                "weather": [{"id": 800, "main": "Clear", "description": "맑음", "icon": "01d"}]
+              }]
+            }
+            """;
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("base-url 기준으로 One Call API를 호출하고 일별 예보로 변환")
+    void fetch() throws InterruptedException {
+        server.enqueue(json(FORECAST));
+
+        MountainWeatherDto weather = client(2000).fetch(37.5, 127.0);
+
+        assertThat(weather.getDailyWeather()).hasSize(1);
+        assertThat(weather.getDailyWeather().get(0).getTemperatureMax()).isEqualTo(19.2);
+        assertThat(weather.getDailyWeather().get(0).getWeather().getMain()).isEqualTo("Clear");
+
+        RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(request.getRequestUrl().encodedPath()).isEqualTo("/data/3.0/onecall");
+        assertThat(request.getRequestUrl().queryParameter("lat")).isEqualTo("37.5");
+        assertThat(request.getRequestUrl().queryParameter("lon")).isEqualTo("127.0");
+        assertThat(request.getRequestUrl().queryParameter("appid")).isEqualTo("test-key");
+        assertThat(request.getRequestUrl().queryParameter("units")).isEqualTo("metric");
+    }
+
+    @Test
+    @DisplayName("응답 오류는 예외로 전달")
+    void fetchServerError() {
+        server.enqueue(new MockResponse().setResponseCode(500));
+
+        assertThatThrownBy(() -> client(2000).fetch(37.5, 127.0))
+                .isInstanceOf(RestClientResponseException.class);
+    }
+
+    @Test
+    @DisplayName("read-timeout을 넘기면 기다리지 않고 예외")
+    void fetchReadTimeout() {
+        server.enqueue(json(FORECAST).setHeadersDelay(2, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client(200).fetch(37.5, 127.0))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1500);
+    }
+
+    static MockResponse json(String body) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody(body);
+    }
+
+    static String baseUrl(MockWebServer server) {
+        return "http://" + server.getHostName() + ":" + server.getPort();
+    }
+
+    private OpenWeatherClient client(long readTimeout) {
+        return new OpenWeatherClient(baseUrl(server), 1000, readTimeout, "test-key");
+    }
+}
@@ -0,0 +1,97 @@
+package com.ssafy.ollana.tracking.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ollana.common.QueryCountTestSupport;
+import com.ssafy.ollana.footprint.persistent.repository.FootprintRepository;
+import com.ssafy.ollana.footprint.persistent.repository.HikingHistoryRepository;
+import com.ssafy.ollana.footprint.service.BattleHistoryService;
+import com.ssafy.ollana.footprint.service.UserHikingSummaryService;
+import com.ssafy.ollana.mountain.persistent.entity.Level;
+import com.ssafy.ollana.mountain.persistent.entity.Mountain;
+import com.ssafy.ollana.mountain.persistent.entity.Path;
+import com.ssafy.ollana.mountain.persistent.repository.MountainRepository;
+import com.ssafy.ollana.mountain.persistent.repository.PathRepository;
+import com.ssafy.ollana.mountain.service.MountainAutocompleteIndex;
+import com.ssafy.ollana.mountain.service.MountainSpatialIndex;
+import com.ssafy.ollana.tracking.service.route.PathRouteCache;
+import com.ssafy.ollana.tracking.web.dto.request.RouteOptionRequestDto;
+import com.ssafy.ollana.tracking.web.dto.response.MountainSearchListResponseDto;
+import com.ssafy.ollana.user.repository.UserRepository;
+import com.ssafy.ollana.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@SuppressWarnings("unchecked")
+class TrackingServiceQueryCountTest extends QueryCountTestSupport {
+
+    private static final int PATHS_PER_MOUNTAIN = 3;
+
+    @Autowired
+    private MountainRepository mountainRepository;
+    @Autowired
+    private PathRepository pathRepository;
+
+    private TrackingService trackingService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        // 좌표가 없는 등산로는 캐시가 빈 payload를 바로 반환 (DB 조회 없음)
+        PathRouteCache pathRouteCache = new PathRouteCache(pathRepository, objectMapper, 100);
+
+        trackingService = new TrackingService(mountainRepository, mock(MountainSpatialIndex.class),
+                mock(MountainAutocompleteIndex.class), mock(FootprintRepository.class), pathRepository,
+                mock(UserRepository.class), mock(HikingHistoryRepository.class), mock(UserService.class),
+                mock(BattleHistoryService.class), mock(UserHikingSummaryService.class),
+                mock(ApplicationEventPublisher.class), mock(RedisTemplate.class), mock(TrackingOutboxService.class),
+                objectMapper, mock(TrackingRecordBuffer.class), mock(TrackingPresenceService.class),
+                mock(HikingTraceService.class), pathRouteCache);
+    }
+
+    @Test
+    @DisplayName("트래킹 산 검색은 검색 결과 수와 관계없이 산 조회 + 등산로 IN 조회 2번")
+    void mountainSearchRunsConstantStatements() {
+        RouteOptionRequestDto option = RouteOptionRequestDto.builder().build();
+
+        saveMountains(0, 2);
+        long fewCount = countStatements(() -> trackingService.getMountainSearchResults("테스트", option));
+
+        saveMountains(2, 10);
+        List<MountainSearchListResponseDto> many = new ArrayList<>();
+        long manyCount = countStatements(() -> many.addAll(
+                trackingService.getMountainSearchResults("테스트", option).getResults()));
+
+        assertThat(many).hasSize(12)
+                .allSatisfy(result -> assertThat(result.getPaths()).hasSize(PATHS_PER_MOUNTAIN));
+        assertThat(fewCount).isEqualTo(2);
+        assertThat(manyCount).isEqualTo(fewCount);
+    }
+
+    private void saveMountains(int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            Mountain mountain = em.persist(Mountain.builder()
+                    .mountainName("테스트산" + i)
+                    .mountainLoc("서울")
+                    .level(Level.M)
+                    .build());
+            for (int j = 0; j < PATHS_PER_MOUNTAIN; j++) {
+                em.persist(Path.builder()
+                        .mountain(mountain)
+                        .pathName("등산로" + j)
+                        .pathLength(1.5)
+                        .level(Level.M)
+                        .build());
+            }
+        }
+    }
+}